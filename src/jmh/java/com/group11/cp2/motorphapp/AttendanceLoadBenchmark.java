@@ -0,0 +1,68 @@
+/**
+ * Compares the buffered, memory-mapped and parallel attendance CSV loaders.
+ *
+ * Run with: mvn -Pbenchmark compile exec:exec -Djmh.args="AttendanceLoadBenchmark"
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AttendanceLoadBenchmark {
+
+    /** Number of times the bundled attendance rows are repeated. */
+    @Param({"1", "100"})
+    public int copies;
+
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> lines = Files.readAllLines(Path.of("src/main/resources/attendancerecord.csv"));
+        file = Files.createTempFile("attendance-bench", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write(lines.get(0));
+            writer.newLine();
+            for (int i = 0; i < copies; i++) {
+                for (String line : lines.subList(1, lines.size())) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<AttendanceRecord> bufferedReader() {
+        return CSVHandler.readAttendanceCSV(file.toString());
+    }
+
+    @Benchmark
+    public List<AttendanceRecord> memoryMapped() {
+        return CSVHandler.readAttendanceCSVMapped(file.toString());
+    }
+
+    @Benchmark
+    public List<AttendanceRecord> parallelChunks() {
+        return CSVHandler.readAttendanceCSVParallel(file.toString());
+    }
+}
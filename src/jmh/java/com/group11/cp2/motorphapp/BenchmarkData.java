@@ -0,0 +1,52 @@
+/**
+ * Builds benchmark datasets of a given headcount with the seeded DatasetGenerator.
+ *
+ * Attendance covers June to December 2024, the same months as the bundled files,
+ * and every run of a benchmark sees the same rows.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+final class BenchmarkData {
+    private static final long SEED = 11;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Writes a generated employee CSV file to a temp file.
+     *
+     * @param employees Headcount.
+     * @return Path of the temp file, to be deleted by the caller.
+     * @throws IOException If the file cannot be written.
+     */
+    static Path employeeFile(int employees) throws IOException {
+        Path file = Files.createTempFile("employees-bench", ".csv");
+        generator(employees).writeEmployees(file);
+        return file;
+    }
+
+    /**
+     * Writes a generated attendance CSV file to a temp file.
+     *
+     * @param employees Headcount.
+     * @return Path of the temp file, to be deleted by the caller.
+     * @throws IOException If the file cannot be written.
+     */
+    static Path attendanceFile(int employees) throws IOException {
+        Path file = Files.createTempFile("attendance-bench", ".csv");
+        generator(employees).writeAttendance(file);
+        return file;
+    }
+
+    private static DatasetGenerator generator(int employees) {
+        DatasetGenerator generator = new DatasetGenerator(SEED);
+        generator.setEmployees(employees);
+        return generator;
+    }
+}
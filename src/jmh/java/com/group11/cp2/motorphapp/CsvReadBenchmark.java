@@ -0,0 +1,66 @@
+/**
+ * Measures throughput and allocation of the CSV line splitter and the employee and
+ * attendance CSV readers as the headcount grows.
+ *
+ * Run with: mvn -Pbenchmark compile exec:exec -Djmh.args="CsvReadBenchmark"
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvReadBenchmark {
+
+    /** Number of generated employees; see {@link BenchmarkData}. */
+    @Param({"100", "1000", "10000"})
+    public int headcount;
+
+    private Path employeeFile;
+    private Path attendanceFile;
+    private String[] employeeLines;
+
+    @Setup
+    public void setUp() throws IOException {
+        employeeFile = BenchmarkData.employeeFile(headcount);
+        attendanceFile = BenchmarkData.attendanceFile(headcount);
+        List<String> lines = Files.readAllLines(employeeFile);
+        employeeLines = lines.subList(1, lines.size()).toArray(new String[0]);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(employeeFile);
+        Files.deleteIfExists(attendanceFile);
+    }
+
+    @Benchmark
+    public void parseCSVLine(Blackhole blackhole) {
+        for (String line : employeeLines) {
+            blackhole.consume(CSVHandler.parseCSVLine(line));
+        }
+    }
+
+    @Benchmark
+    public List<Employee> readEmployeesFromCSV() {
+        return CSVHandler.readEmployeesFromCSV(employeeFile.toString());
+    }
+
+    @Benchmark
+    public List<AttendanceRecord> readAttendanceCSV() {
+        return CSVHandler.readAttendanceCSV(attendanceFile.toString());
+    }
+}
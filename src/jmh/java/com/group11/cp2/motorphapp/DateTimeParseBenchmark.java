@@ -0,0 +1,137 @@
+/**
+ * Compares DateTimeFormatter parsing with the DateTimeParser fast path on the CSV layouts.
+ *
+ * Run with: mvn -Pbenchmark compile exec:exec -Djmh.args="DateTimeParseBenchmark"
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateTimeParseBenchmark {
+    private static final DateTimeFormatter ATTENDANCE_DATE = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+    private static final DateTimeFormatter EMPLOYEE_DATE = DateTimeFormatter.ofPattern("M/d/yyyy");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("H:mm");
+
+    private String[] dates;
+    private String[] times;
+    private String[] birthdays;
+    private String[] invalid;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> dateValues = new ArrayList<>();
+        List<String> timeValues = new ArrayList<>();
+        List<String> lines = Files.readAllLines(Path.of("src/main/resources/attendancerecord.csv"));
+        for (String line : lines.subList(1, lines.size())) {
+            String[] values = line.split(",", -1);
+            if (values.length >= 4) {
+                dateValues.add(values[1].trim());
+                timeValues.add(values[2].trim());
+                timeValues.add(values[3].trim());
+            }
+        }
+        timeValues.removeIf(String::isEmpty);
+        dates = dateValues.toArray(new String[0]);
+        times = timeValues.toArray(new String[0]);
+
+        birthdays = new String[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            LocalDate date = LocalDate.parse(dates[i], ATTENDANCE_DATE).minusYears(30);
+            birthdays[i] = date.getMonthValue() + "/" + date.getDayOfMonth() + "/" + date.getYear();
+        }
+        invalid = new String[] {"13/01/2024", "02/30/2O24", "2024-06-01", "", "06/1/2024", "25:00", "7:5"};
+    }
+
+    @Benchmark
+    public void attendanceDateFormatter(Blackhole blackhole) {
+        for (String date : dates) {
+            blackhole.consume(LocalDate.parse(date, ATTENDANCE_DATE));
+        }
+    }
+
+    @Benchmark
+    public long attendanceDateFastPath() {
+        long sum = 0;
+        for (String date : dates) {
+            sum += DateTimeParser.parseAttendanceDate(date);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void employeeDateFormatter(Blackhole blackhole) {
+        for (String birthday : birthdays) {
+            blackhole.consume(LocalDate.parse(birthday, EMPLOYEE_DATE));
+        }
+    }
+
+    @Benchmark
+    public long employeeDateFastPath() {
+        long sum = 0;
+        for (String birthday : birthdays) {
+            sum += DateTimeParser.parseEmployeeDate(birthday);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void timeFormatter(Blackhole blackhole) {
+        for (String time : times) {
+            blackhole.consume(LocalTime.parse(time, TIME));
+        }
+    }
+
+    @Benchmark
+    public long timeFastPath() {
+        long sum = 0;
+        for (String time : times) {
+            sum += DateTimeParser.parseTime(time);
+        }
+        return sum;
+    }
+
+    /** Bad input costs an exception per value on the formatter path. */
+    @Benchmark
+    public int invalidFormatter() {
+        int failures = 0;
+        for (String value : invalid) {
+            try {
+                LocalDate.parse(value, ATTENDANCE_DATE);
+            } catch (DateTimeParseException e) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    @Benchmark
+    public int invalidFastPath() {
+        int failures = 0;
+        for (String value : invalid) {
+            if (DateTimeParser.isError(DateTimeParser.parseAttendanceDate(value))) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+}
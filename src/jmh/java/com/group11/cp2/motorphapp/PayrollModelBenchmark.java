@@ -0,0 +1,119 @@
+/**
+ * Measures throughput and allocation of building AttendanceRecord, Deductions and
+ * PayrollReport objects for every employee as the headcount grows.
+ *
+ * Run with: mvn -Pbenchmark compile exec:exec -Djmh.args="PayrollModelBenchmark"
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayrollModelBenchmark {
+    private static final YearMonth FIRST_MONTH = YearMonth.of(2024, 6);
+    private static final YearMonth LAST_MONTH = YearMonth.of(2024, 12);
+
+    /** Number of generated employees; see {@link BenchmarkData}. */
+    @Param({"100", "1000", "10000"})
+    public int headcount;
+
+    private int[] employeeNumbers;
+    private LocalDate[] dates;
+    private LocalTime[] timesIn;
+    private LocalTime[] timesOut;
+    private List<Employee> employees;
+    private double[] grossSalaries;
+    private double[] basicSalaries;
+    private StatutoryRates rates;
+    private AttendanceStore attendance;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path employeeFile = BenchmarkData.employeeFile(headcount);
+        Path attendanceFile = BenchmarkData.attendanceFile(headcount);
+        try {
+            employees = CSVHandler.readEmployeesFromCSV(employeeFile.toString());
+            attendance = AttendanceStore.load(attendanceFile.toString());
+        } finally {
+            Files.deleteIfExists(employeeFile);
+            Files.deleteIfExists(attendanceFile);
+        }
+
+        int rows = attendance.size();
+        employeeNumbers = new int[rows];
+        dates = new LocalDate[rows];
+        timesIn = new LocalTime[rows];
+        timesOut = new LocalTime[rows];
+        int i = 0;
+        for (int row = attendance.nextRow(0); row >= 0; row = attendance.nextRow(row + 1), i++) {
+            employeeNumbers[i] = attendance.getEmployeeNumber(row);
+            dates[i] = attendance.getDate(row);
+            timesIn[i] = attendance.getTimeIn(row);
+            timesOut[i] = attendance.getTimeOut(row);
+        }
+
+        grossSalaries = new double[employees.size()];
+        basicSalaries = new double[employees.size()];
+        for (int e = 0; e < employees.size(); e++) {
+            CompensationDetails comp = employees.get(e).getCompensationDetails();
+            basicSalaries[e] = comp.getBasicSalary();
+            grossSalaries[e] = comp.getBasicSalary() + comp.getRiceSubsidy() + comp.getPhoneAllowance() + comp.getClothingAllowance();
+        }
+        rates = RateSchedule.getDefault().forMonth(FIRST_MONTH);
+    }
+
+    @Benchmark
+    public void attendanceRecords(Blackhole blackhole) {
+        for (int i = 0; i < employeeNumbers.length; i++) {
+            blackhole.consume(new AttendanceRecord(employeeNumbers[i], dates[i], timesIn[i], timesOut[i]));
+        }
+    }
+
+    @Benchmark
+    public void deductions(Blackhole blackhole) {
+        for (int e = 0; e < grossSalaries.length; e++) {
+            blackhole.consume(new Deductions(grossSalaries[e], basicSalaries[e]));
+        }
+    }
+
+    @Benchmark
+    public void deductionsWithRates(Blackhole blackhole) {
+        for (int e = 0; e < grossSalaries.length; e++) {
+            blackhole.consume(new Deductions(grossSalaries[e], basicSalaries[e], rates));
+        }
+    }
+
+    /**
+     * One report per employee and month, summed from the attendance store. Employees
+     * whose pay cannot be computed fail the same way in every month, as in PayrollRun.
+     */
+    @Benchmark
+    public void payrollReports(Blackhole blackhole) {
+        for (Employee employee : employees) {
+            for (YearMonth month = FIRST_MONTH; !month.isAfter(LAST_MONTH); month = month.plusMonths(1)) {
+                try {
+                    blackhole.consume(new PayrollReport(employee, month, attendance));
+                } catch (IllegalArgumentException e) {
+                    blackhole.consume(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Compares the per-call cost of the original list-based SSS lookup with the static bracket tables.
+ *
+ * Run with: mvn -Pbenchmark compile exec:exec -Djmh.args="SssContributionBenchmark"
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SssContributionBenchmark {
+    private static final int SALARY_COUNT = 1024;
+
+    private final double[] salaries = new double[SALARY_COUNT];
+    private final long[] salaryCentavos = new long[SALARY_COUNT];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(11);
+        for (int i = 0; i < SALARY_COUNT; i++) {
+            salaries[i] = Math.round(random.nextDouble() * 3000000) / 100.0;
+            salaryCentavos[i] = Money.ofPesos(salaries[i]);
+        }
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (SALARY_COUNT - 1);
+        return next;
+    }
+
+    @Benchmark
+    public double legacyList() {
+        return legacyCalculateSSSContribution(salaries[nextIndex()]);
+    }
+
+    @Benchmark
+    public double bracketIndex() {
+        return Deductions.calculateSSSContribution(salaries[nextIndex()]);
+    }
+
+    @Benchmark
+    public long bracketIndexCentavos() {
+        return PayrollCalculator.sssContribution(salaryCentavos[nextIndex()]);
+    }
+
+    /**
+     * The lookup as it was before the static table, kept as the benchmark baseline.
+     */
+    private static double legacyCalculateSSSContribution(double monthlyGrossSalary) {
+        class SalaryContribution {
+            double salaryLimit;
+            double contribution;
+
+            SalaryContribution(double salaryLimit, double contribution) {
+                this.salaryLimit = salaryLimit;
+                this.contribution = contribution;
+            }
+        }
+
+        ArrayList<SalaryContribution> sssTable = new ArrayList<>();
+        sssTable.add(new SalaryContribution(3250.0, 135.00));
+        sssTable.add(new SalaryContribution(3750.0, 157.50));
+        sssTable.add(new SalaryContribution(4250.0, 180.00));
+        sssTable.add(new SalaryContribution(4750.0, 202.50));
+        sssTable.add(new SalaryContribution(5250.0, 225.00));
+        sssTable.add(new SalaryContribution(5750.0, 247.50));
+        sssTable.add(new SalaryContribution(6250.0, 270.00));
+        sssTable.add(new SalaryContribution(6750.0, 292.50));
+        sssTable.add(new SalaryContribution(7250.0, 315.00));
+        sssTable.add(new SalaryContribution(7750.0, 337.50));
+        sssTable.add(new SalaryContribution(8250.0, 360.00));
+        sssTable.add(new SalaryContribution(8750.0, 382.50));
+        sssTable.add(new SalaryContribution(9250.0, 405.00));
+        sssTable.add(new SalaryContribution(9750.0, 427.50));
+        sssTable.add(new SalaryContribution(10250.0, 450.00));
+        sssTable.add(new SalaryContribution(10750.0, 472.50));
+        sssTable.add(new SalaryContribution(11250.0, 495.00));
+        sssTable.add(new SalaryContribution(11750.0, 517.50));
+        sssTable.add(new SalaryContribution(12250.0, 540.00));
+        sssTable.add(new SalaryContribution(12750.0, 562.50));
+        sssTable.add(new SalaryContribution(13250.0, 585.00));
+        sssTable.add(new SalaryContribution(13750.0, 607.50));
+        sssTable.add(new SalaryContribution(14250.0, 630.00));
+        sssTable.add(new SalaryContribution(14750.0, 652.50));
+        sssTable.add(new SalaryContribution(15250.0, 675.00));
+        sssTable.add(new SalaryContribution(15750.0, 697.50));
+        sssTable.add(new SalaryContribution(16250.0, 720.00));
+        sssTable.add(new SalaryContribution(16750.0, 742.50));
+        sssTable.add(new SalaryContribution(17250.0, 765.00));
+        sssTable.add(new SalaryContribution(17750.0, 787.50));
+        sssTable.add(new SalaryContribution(18250.0, 810.00));
+        sssTable.add(new SalaryContribution(18750.0, 832.50));
+        sssTable.add(new SalaryContribution(19250.0, 855.00));
+        sssTable.add(new SalaryContribution(19750.0, 877.50));
+        sssTable.add(new SalaryContribution(20250.0, 900.00));
+        sssTable.add(new SalaryContribution(20750.0, 922.50));
+        sssTable.add(new SalaryContribution(21250.0, 945.00));
+        sssTable.add(new SalaryContribution(21750.0, 967.50));
+        sssTable.add(new SalaryContribution(22250.0, 990.00));
+        sssTable.add(new SalaryContribution(22750.0, 1012.50));
+        sssTable.add(new SalaryContribution(23250.0, 1035.00));
+        sssTable.add(new SalaryContribution(23750.0, 1057.50));
+        sssTable.add(new SalaryContribution(24250.0, 1080.00));
+        sssTable.add(new SalaryContribution(24750.0, 1102.50));
+
+        for (SalaryContribution entry : sssTable) {
+            if (monthlyGrossSalary < entry.salaryLimit) {
+                return entry.contribution;
+            }
+        }
+
+        return 1125.00;
+    }
+}
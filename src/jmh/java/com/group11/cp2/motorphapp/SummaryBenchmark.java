@@ -0,0 +1,80 @@
+/**
+ * Measures throughput and allocation of the monthly attendance, hours and pay summaries,
+ * from a record list and from the attendance store, as the headcount grows.
+ *
+ * Run with: mvn -Pbenchmark compile exec:exec -Djmh.args="SummaryBenchmark"
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SummaryBenchmark {
+
+    /** Number of generated employees; see {@link BenchmarkData}. */
+    @Param({"100", "1000", "10000"})
+    public int headcount;
+
+    private List<Employee> employeeList;
+    private EmployeeRepository employees;
+    private List<AttendanceRecord> records;
+    private AttendanceStore attendance;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path employeeFile = BenchmarkData.employeeFile(headcount);
+        Path attendanceFile = BenchmarkData.attendanceFile(headcount);
+        try {
+            employeeList = CSVHandler.readEmployeesFromCSV(employeeFile.toString());
+            attendance = AttendanceStore.load(attendanceFile.toString());
+        } finally {
+            Files.deleteIfExists(employeeFile);
+            Files.deleteIfExists(attendanceFile);
+        }
+        employees = EmployeeRepository.of(employeeList);
+        records = attendance.toRecords();
+    }
+
+    @Benchmark
+    public String monthlySummaryFromList() {
+        return AttendanceRecord.getMonthlySummary(records);
+    }
+
+    @Benchmark
+    public String monthlySummaryFromStore() {
+        return AttendanceRecord.getMonthlySummary(attendance);
+    }
+
+    @Benchmark
+    public String hoursSummaryFromList() {
+        return AttendanceRecord.generateMonthlySalarySummary(records, employeeList);
+    }
+
+    @Benchmark
+    public String hoursSummaryFromStore() {
+        return AttendanceRecord.generateMonthlySalarySummary(attendance, employees);
+    }
+
+    @Benchmark
+    public String paySummaryFromList() {
+        return AttendanceRecord.generatePaySummary(records, employeeList);
+    }
+
+    @Benchmark
+    public String paySummaryFromStore() {
+        return AttendanceRecord.generatePaySummary(attendance, employees);
+    }
+}
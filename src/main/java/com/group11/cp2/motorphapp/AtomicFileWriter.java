@@ -0,0 +1,201 @@
+/**
+ * Crash-safe file replacement for the MotorPH Payroll System.
+ *
+ * A file is written to a temp file in the same directory, forced to disk and then
+ * moved over the original in one atomic step, so a crash leaves either the old or
+ * the new file and never a truncated one.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+public final class AtomicFileWriter {
+    /** Suffix of the temp file written next to the target. */
+    public static final String TEMP_SUFFIX = ".tmp";
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int CHAR_BUFFER_SIZE = 1 << 16;
+
+    // Writes are serialised on the class, so one direct buffer serves them all
+    private static ByteBuffer buffer;
+
+    private AtomicFileWriter() {
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface Content {
+        /**
+         * Writes the file contents.
+         *
+         * @param writer Writer for the temp file.
+         * @throws IOException If the contents cannot be written.
+         */
+        void writeTo(BufferedWriter writer) throws IOException;
+    }
+
+    /**
+     * Replaces a file with new contents.
+     *
+     * @param target File to replace.
+     * @param content Writes the new contents.
+     * @throws IOException If the file cannot be written; the old file is then left as it was.
+     */
+    public static void write(Path target, Content content) throws IOException {
+        Path temp = writeTemp(target, content);
+        moveIntoPlace(temp, target);
+        syncDirectory(target.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Writes new contents to the temp file of a target and forces them to disk.
+     *
+     * @param target File that will be replaced.
+     * @param content Writes the new contents.
+     * @return Path of the temp file.
+     * @throws IOException If the temp file cannot be written; it is deleted again.
+     */
+    static synchronized Path writeTemp(Path target, Content content) throws IOException {
+        Path temp = tempPath(target);
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+        buffer.clear();
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            BufferedWriter writer = new BufferedWriter(
+                    new OutputStreamWriter(new ChannelOutputStream(channel, buffer), StandardCharsets.UTF_8),
+                    CHAR_BUFFER_SIZE);
+            content.writeTo(writer);
+            writer.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return temp;
+    }
+
+    /**
+     * Moves a finished temp file over its target in one step.
+     *
+     * @param temp Temp file from {@link #writeTemp(Path, Content)}.
+     * @param target File to replace.
+     * @throws IOException If the file system cannot move the file atomically.
+     */
+    static void moveIntoPlace(Path temp, Path target) throws IOException {
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Forces the entries of moved files to disk where the platform allows it.
+     *
+     * @param directory Directory holding the moved files.
+     */
+    static void syncDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Some platforms, such as Windows, cannot open directories; the move is still atomic there
+        }
+    }
+
+    /**
+     * Gets the temp file used while replacing a target.
+     *
+     * @param target File to replace.
+     * @return Path of the temp file next to the target.
+     */
+    public static Path tempPath(Path target) {
+        return target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+    }
+
+    /**
+     * Deletes temp files left by writes that were interrupted before their move.
+     * The files they were replacing are still intact. Call before anything writes.
+     *
+     * @param directory Directory holding the data files.
+     * @return Number of temp files deleted.
+     */
+    public static int recover(Path directory) {
+        int deleted = 0;
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        try (DirectoryStream<Path> temps = Files.newDirectoryStream(directory, "*" + TEMP_SUFFIX)) {
+            for (Path temp : temps) {
+                Files.deleteIfExists(temp);
+                System.err.println("Discarded incomplete write: " + temp.getFileName());
+                deleted++;
+            }
+        } catch (IOException e) {
+            System.err.println("Error checking for incomplete writes: " + e.getMessage());
+        }
+        return deleted;
+    }
+
+    /**
+     * Output stream that collects bytes in a direct buffer and writes them to a channel when it fills.
+     */
+    private static final class ChannelOutputStream extends OutputStream {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        ChannelOutputStream(FileChannel channel, ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (!buffer.hasRemaining()) {
+                    drain();
+                }
+                int chunk = Math.min(length, buffer.remaining());
+                buffer.put(bytes, offset, chunk);
+                offset += chunk;
+                length -= chunk;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            drain();
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/**
+ * Indexes attendance rows by employee and month for the MotorPH Payroll System.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+
+public class AttendanceIndex {
+    private static final Rows EMPTY = new Rows();
+
+    private final LongObjectMap<Rows> slices = new LongObjectMap<>();
+    private final LongObjectMap<Rows> monthsByEmployee = new LongObjectMap<>();
+
+    /**
+     * A growable list of int values, read-only outside the index.
+     */
+    public static final class Rows {
+        private int[] values = new int[8];
+        private int size;
+
+        public int size() { return size; }
+        public int get(int i) { return values[i]; }
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        private void insertSorted(int value) {
+            int position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            System.arraycopy(values, position, values, position + 1, size - position);
+            values[position] = value;
+            size++;
+        }
+
+        private boolean removeValue(int value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    System.arraycopy(values, i + 1, values, i, size - i - 1);
+                    size--;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Converts a YearMonth to the month number used by the index.
+     *
+     * @param yearMonth Year and month.
+     * @return year * 12 + (month - 1).
+     */
+    public static int monthIndex(YearMonth yearMonth) {
+        return yearMonth.getYear() * 12 + yearMonth.getMonthValue() - 1;
+    }
+
+    /**
+     * Converts the month of a date to the month number used by the index.
+     *
+     * @param date Date within the month.
+     * @return year * 12 + (month - 1).
+     */
+    public static int monthIndex(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    /**
+     * Converts a month number used by the index back to a YearMonth.
+     *
+     * @param monthIndex year * 12 + (month - 1).
+     * @return YearMonth instance.
+     */
+    public static YearMonth toYearMonth(int monthIndex) {
+        return YearMonth.of(Math.floorDiv(monthIndex, 12), Math.floorMod(monthIndex, 12) + 1);
+    }
+
+    /**
+     * Packs an employee and month into one key that sorts by employee, then month.
+     *
+     * @param employeeNumber Employee's unique ID.
+     * @param monthIndex Month number from {@link #monthIndex(YearMonth)}.
+     * @return Employee-month key.
+     */
+    static long key(int employeeNumber, int monthIndex) {
+        return ((long) employeeNumber << 32) | (monthIndex & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Gets the employee of a key from {@link #key(int, int)}.
+     *
+     * @param key Employee-month key.
+     * @return Employee's unique ID.
+     */
+    static int employeeOf(long key) {
+        return (int) (key >>> 32);
+    }
+
+    /**
+     * Gets the month of a key from {@link #key(int, int)}.
+     *
+     * @param key Employee-month key.
+     * @return Month number.
+     */
+    static int monthOf(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Adds a row to the index.
+     *
+     * @param row Row index in the attendance store.
+     * @param employeeNumber Employee's unique ID.
+     * @param monthIndex Month number of the row's date.
+     */
+    void add(int row, int employeeNumber, int monthIndex) {
+        long key = key(employeeNumber, monthIndex);
+        Rows slice = slices.get(key);
+        if (slice == null) {
+            slice = new Rows();
+            slices.put(key, slice);
+            Rows months = monthsByEmployee.get(employeeNumber);
+            if (months == null) {
+                months = new Rows();
+                monthsByEmployee.put(employeeNumber, months);
+            }
+            months.insertSorted(monthIndex);
+        }
+        slice.add(row);
+    }
+
+    /**
+     * Removes a single row from the index.
+     *
+     * @param row Row index in the attendance store.
+     * @param employeeNumber Employee's unique ID.
+     * @param monthIndex Month number of the row's date.
+     */
+    void remove(int row, int employeeNumber, int monthIndex) {
+        long key = key(employeeNumber, monthIndex);
+        Rows slice = slices.get(key);
+        if (slice == null || !slice.removeValue(row) || slice.size > 0) {
+            return;
+        }
+        slices.remove(key);
+        Rows months = monthsByEmployee.get(employeeNumber);
+        months.removeValue(monthIndex);
+        if (months.size == 0) {
+            monthsByEmployee.remove(employeeNumber);
+        }
+    }
+
+    /**
+     * Removes every row of an employee from the index.
+     *
+     * @param employeeNumber Employee's unique ID.
+     */
+    void removeEmployee(int employeeNumber) {
+        Rows months = monthsByEmployee.remove(employeeNumber);
+        if (months != null) {
+            for (int i = 0; i < months.size; i++) {
+                slices.remove(key(employeeNumber, months.values[i]));
+            }
+        }
+    }
+
+    /**
+     * Gets the rows of an employee in a month.
+     *
+     * @param employeeNumber Employee's unique ID.
+     * @param yearMonth Year and month.
+     * @return Row indices in insertion order; empty if there are none.
+     */
+    public Rows slice(int employeeNumber, YearMonth yearMonth) {
+        return slice(employeeNumber, monthIndex(yearMonth));
+    }
+
+    /**
+     * Gets the rows of an employee in a month.
+     *
+     * @param employeeNumber Employee's unique ID.
+     * @param monthIndex Month number from {@link #monthIndex(YearMonth)}.
+     * @return Row indices in insertion order; empty if there are none.
+     */
+    public Rows slice(int employeeNumber, int monthIndex) {
+        Rows slice = slices.get(key(employeeNumber, monthIndex));
+        return slice != null ? slice : EMPTY;
+    }
+
+    /**
+     * Gets the months in which an employee has attendance.
+     *
+     * @param employeeNumber Employee's unique ID.
+     * @return Month numbers in ascending order; empty if there are none.
+     */
+    public Rows months(int employeeNumber) {
+        Rows months = monthsByEmployee.get(employeeNumber);
+        return months != null ? months : EMPTY;
+    }
+
+    /**
+     * Gets every employee with attendance.
+     *
+     * @return Employee numbers in ascending order.
+     */
+    public int[] employeeNumbers() {
+        long[] keys = monthsByEmployee.sortedKeys();
+        int[] result = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = (int) keys[i];
+        }
+        return result;
+    }
+}
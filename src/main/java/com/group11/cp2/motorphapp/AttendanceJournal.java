@@ -0,0 +1,374 @@
+/**
+ * Append-only journal of attendance changes for the MotorPH Payroll System.
+ *
+ * Inserts and deletes are appended to small binary segment files next to the
+ * attendance CSV instead of rewriting the whole CSV. A background compaction
+ * folds sealed segments into the CSV, and startup replays the CSV plus any
+ * segments that are not yet part of it.
+ *
+ * Files next to {@code attendancerecord.csv}:
+ * <ul>
+ *   <li>{@code attendancerecord.csv.journal.N} - segment N, an 8-byte header followed
+ *       by fixed 13-byte records (op, employee, epoch day, minute in, minute out).</li>
+ *   <li>{@code attendancerecord.csv.base} - the last segment folded into the CSV,
+ *       with the size and modified time of the CSV that compaction wrote.</li>
+ * </ul>
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class AttendanceJournal implements Closeable {
+    /** Journal size after which {@link #compactIfNeeded()} starts a compaction. */
+    public static final long DEFAULT_COMPACT_THRESHOLD = 1 << 20;
+
+    private static final int MAGIC = 0x4D504A31; // "MPJ1"
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_SIZE = 13;
+    private static final int VERSION = 1;
+
+    private static final byte OP_ADD = 1;
+    private static final byte OP_REMOVE = 2;
+    private static final byte OP_REMOVE_EMPLOYEE = 3;
+
+    private final Path csvPath;
+    private final Path basePath;
+    private final String segmentPrefix;
+    private final long compactThreshold;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "motorph-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private FileChannel segment;
+    private long generation;
+    private long pendingBytes;
+    private CompletableFuture<Void> compaction = CompletableFuture.completedFuture(null);
+
+    /**
+     * Opens the journal of an attendance CSV file. New changes go to a fresh segment;
+     * segments left by earlier runs are kept for {@link #replay(AttendanceStore)}.
+     *
+     * @param csvPath Path to the attendance CSV file.
+     * @param compactThreshold Journal size in bytes after which compaction starts.
+     * @throws IOException If the existing segments cannot be listed.
+     */
+    public AttendanceJournal(String csvPath, long compactThreshold) throws IOException {
+        this.csvPath = Path.of(csvPath).toAbsolutePath();
+        this.basePath = sibling(".base");
+        this.segmentPrefix = this.csvPath.getFileName() + ".journal.";
+        this.compactThreshold = compactThreshold;
+        // Numbering continues after the folded segment even once compaction has deleted every segment
+        long last = foldedGeneration();
+        for (long existing : segmentGenerations()) {
+            last = Math.max(last, existing);
+            pendingBytes += Files.size(segmentPath(existing));
+        }
+        generation = last + 1;
+    }
+
+    /**
+     * Opens the journal of an attendance CSV file with the default compaction threshold.
+     *
+     * @param csvPath Path to the attendance CSV file.
+     * @throws IOException If the existing segments cannot be listed.
+     */
+    public AttendanceJournal(String csvPath) throws IOException {
+        this(csvPath, DEFAULT_COMPACT_THRESHOLD);
+    }
+
+    /**
+     * Records an added attendance row.
+     *
+     * @param employeeNumber Employee's unique ID.
+     * @param epochDay Date of the record as days since 1970-01-01.
+     * @param minuteIn Time in as minute of day, or {@link MappedAttendanceReader#NO_TIME}.
+     * @param minuteOut Time out as minute of day, or {@link MappedAttendanceReader#NO_TIME}.
+     * @throws IOException If the change cannot be written.
+     */
+    public void appendAdd(int employeeNumber, int epochDay, int minuteIn, int minuteOut) throws IOException {
+        append(OP_ADD, employeeNumber, epochDay, minuteIn, minuteOut);
+    }
+
+    /**
+     * Records a removed attendance row by its values.
+     *
+     * @param employeeNumber Employee's unique ID.
+     * @param epochDay Date of the record as days since 1970-01-01.
+     * @param minuteIn Time in as minute of day, or {@link MappedAttendanceReader#NO_TIME}.
+     * @param minuteOut Time out as minute of day, or {@link MappedAttendanceReader#NO_TIME}.
+     * @throws IOException If the change cannot be written.
+     */
+    public void appendRemove(int employeeNumber, int epochDay, int minuteIn, int minuteOut) throws IOException {
+        append(OP_REMOVE, employeeNumber, epochDay, minuteIn, minuteOut);
+    }
+
+    /**
+     * Records that every attendance row of an employee was removed.
+     *
+     * @param employeeNumber Employee's unique ID.
+     * @throws IOException If the change cannot be written.
+     */
+    public void appendRemoveEmployee(int employeeNumber) throws IOException {
+        append(OP_REMOVE_EMPLOYEE, employeeNumber, 0, 0, 0);
+    }
+
+    private synchronized void append(byte op, int employeeNumber, int epochDay, int minuteIn, int minuteOut)
+            throws IOException {
+        if (segment == null) {
+            segment = FileChannel.open(segmentPath(generation),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            if (segment.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip();
+                writeFully(segment, header);
+                pendingBytes += HEADER_SIZE;
+            }
+        }
+        record.clear();
+        record.put(op).putInt(employeeNumber).putInt(epochDay)
+                .putShort((short) minuteIn).putShort((short) minuteOut).flip();
+        writeFully(segment, record);
+        segment.force(false);
+        pendingBytes += RECORD_SIZE;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Applies the changes that are not yet part of the CSV to a store loaded from it.
+     *
+     * @param store Attendance store loaded from the CSV file.
+     * @return Number of changes applied.
+     */
+    public int replay(AttendanceStore store) {
+        return replayThrough(store, Long.MAX_VALUE);
+    }
+
+    /**
+     * Checks whether there are changes that are not yet part of the CSV.
+     *
+     * @return true if {@link #replay(AttendanceStore)} would apply any segment.
+     * @throws IOException If the existing segments cannot be listed.
+     */
+    public boolean hasPendingChanges() throws IOException {
+        long folded = foldedGeneration();
+        for (long existing : segmentGenerations()) {
+            if (existing > folded) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int replayThrough(AttendanceStore store, long lastGeneration) {
+        long folded = foldedGeneration();
+        int applied = 0;
+        try {
+            for (long existing : segmentGenerations()) {
+                if (existing > folded && existing <= lastGeneration) {
+                    applied += replaySegment(segmentPath(existing), store);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error replaying attendance journal: " + e.getMessage());
+        }
+        return applied;
+    }
+
+    private static int replaySegment(Path path, AttendanceStore store) throws IOException {
+        int applied = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 4096);
+            while (buffer.position() < HEADER_SIZE && channel.read(buffer) >= 0) {
+                // Keep reading until the header is in
+            }
+            buffer.flip();
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                System.err.println("Skipping attendance journal segment with a bad header: " + path.getFileName());
+                return 0;
+            }
+            while (true) {
+                while (buffer.remaining() >= RECORD_SIZE) {
+                    apply(buffer, store);
+                    applied++;
+                }
+                buffer.compact();
+                if (channel.read(buffer) < 0) {
+                    buffer.flip();
+                    break;
+                }
+                buffer.flip();
+            }
+            // A crash during an append leaves a partial record at the end; it was never acknowledged
+            if (buffer.hasRemaining()) {
+                System.err.println("Ignoring incomplete record at the end of " + path.getFileName());
+            }
+        }
+        return applied;
+    }
+
+    private static void apply(ByteBuffer buffer, AttendanceStore store) {
+        byte op = buffer.get();
+        int employeeNumber = buffer.getInt();
+        int epochDay = buffer.getInt();
+        int minuteIn = buffer.getShort();
+        int minuteOut = buffer.getShort();
+        switch (op) {
+            case OP_ADD:
+                store.add(employeeNumber, epochDay, minuteIn, minuteOut);
+                break;
+            case OP_REMOVE:
+                store.removeMatching(employeeNumber, epochDay, minuteIn, minuteOut);
+                break;
+            case OP_REMOVE_EMPLOYEE:
+                store.removeEmployee(employeeNumber);
+                break;
+            default:
+                System.err.println("Unknown attendance journal operation: " + op);
+        }
+    }
+
+    /**
+     * Starts a compaction if the journal has grown past the threshold.
+     *
+     * @return Future completed when the compaction, if any, has finished.
+     */
+    public synchronized CompletableFuture<Void> compactIfNeeded() {
+        return pendingBytes >= compactThreshold ? compact() : compaction;
+    }
+
+    /**
+     * Seals the current segment and folds every sealed segment into the CSV on a
+     * background thread. The live store is not touched; the compactor reloads the
+     * CSV and replays the sealed segments into its own copy.
+     *
+     * @return Future completed when the compaction has finished.
+     */
+    public synchronized CompletableFuture<Void> compact() {
+        if (pendingBytes == 0) {
+            return compaction;
+        }
+        closeSegment();
+        long sealed = generation++;
+        pendingBytes = 0;
+        compaction = CompletableFuture.runAsync(() -> compactThrough(sealed), compactor);
+        return compaction;
+    }
+
+    private void compactThrough(long sealed) {
+        try {
+            AttendanceStore merged = new AttendanceStore();
+            if (Files.exists(csvPath)) {
+                MappedAttendanceReader.scan(csvPath.toString(), merged::add);
+            }
+            replayThrough(merged, sealed);
+            Path temp = AtomicFileWriter.writeTemp(csvPath, writer -> CSVHandler.writeAttendance(merged, writer));
+
+            // Record which CSV contains the sealed segments before it replaces the old one,
+            // so a crash between the two moves still replays them onto the old CSV
+            String base = sealed + " " + Files.size(temp) + " " + Files.getLastModifiedTime(temp).toMillis();
+            AtomicFileWriter.write(basePath, writer -> writer.write(base));
+            AtomicFileWriter.moveIntoPlace(temp, csvPath);
+            AtomicFileWriter.syncDirectory(csvPath.getParent());
+            DataSnapshot.saveAttendance(merged, csvPath.toString());
+
+            for (long existing : segmentGenerations()) {
+                if (existing <= sealed) {
+                    Files.deleteIfExists(segmentPath(existing));
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error compacting attendance journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the last segment already folded into the CSV. The base file only counts
+     * while the CSV is still the one compaction wrote.
+     */
+    private long foldedGeneration() {
+        try {
+            if (!Files.exists(basePath) || !Files.exists(csvPath)) {
+                return 0;
+            }
+            String[] fields = new String(Files.readAllBytes(basePath), StandardCharsets.US_ASCII).trim().split(" ");
+            if (fields.length == 3
+                    && Long.parseLong(fields[1]) == Files.size(csvPath)
+                    && Long.parseLong(fields[2]) == Files.getLastModifiedTime(csvPath).toMillis()) {
+                return Long.parseLong(fields[0]);
+            }
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Ignoring unreadable attendance journal base: " + e.getMessage());
+        }
+        return 0;
+    }
+
+    private List<Long> segmentGenerations() throws IOException {
+        List<Long> generations = new ArrayList<>();
+        Path directory = csvPath.getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return generations;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, segmentPrefix + "*")) {
+            for (Path file : files) {
+                try {
+                    generations.add(Long.parseLong(file.getFileName().toString().substring(segmentPrefix.length())));
+                } catch (NumberFormatException e) {
+                    // Not a segment, such as an editor backup
+                }
+            }
+        }
+        Collections.sort(generations);
+        return generations;
+    }
+
+    private Path segmentPath(long segmentGeneration) {
+        return csvPath.resolveSibling(segmentPrefix + segmentGeneration);
+    }
+
+    private Path sibling(String suffix) {
+        return csvPath.resolveSibling(csvPath.getFileName() + suffix);
+    }
+
+    private void closeSegment() {
+        if (segment != null) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                System.err.println("Error closing attendance journal segment: " + e.getMessage());
+            }
+            segment = null;
+        }
+    }
+
+    /**
+     * Closes the current segment. Its changes stay on disk and are replayed on the next start.
+     */
+    @Override
+    public synchronized void close() {
+        closeSegment();
+        compactor.shutdown();
+    }
+}
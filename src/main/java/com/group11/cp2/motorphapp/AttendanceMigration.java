@@ -0,0 +1,56 @@
+/**
+ * Command-line tool that splits the attendance CSV file into monthly partitions
+ * for the MotorPH Payroll System.
+ *
+ * Usage: AttendanceMigration [csvPath] [directory] [closeThrough]
+ * Defaults to src/main/resources/attendancerecord.csv, src/main/resources/attendance
+ * and the month before the current one. Pass "none" as closeThrough to leave every month open.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+
+public class AttendanceMigration {
+
+    /**
+     * Runs the migration.
+     *
+     * @param args Optional CSV path, partition directory and last month to close (yyyy-MM).
+     */
+    public static void main(String[] args) {
+        String csvPath = args.length > 0 ? args[0] : "src/main/resources/attendancerecord.csv";
+        Path directory = Path.of(args.length > 1 ? args[1] : "src/main/resources/attendance");
+        YearMonth closeThrough;
+        try {
+            closeThrough = args.length > 2
+                    ? ("none".equalsIgnoreCase(args[2]) ? null : YearMonth.parse(args[2]))
+                    : YearMonth.now().minusMonths(1);
+        } catch (DateTimeParseException e) {
+            System.err.println("Invalid month (expected yyyy-MM): " + args[2]);
+            System.exit(2);
+            return;
+        }
+
+        try {
+            AttendancePartitions partitions = AttendancePartitions.split(csvPath, directory, closeThrough);
+            int rows = 0;
+            int closed = 0;
+            for (AttendancePartitions.Partition partition : partitions.getPartitions()) {
+                rows += partition.getRows();
+                if (partition.isClosed()) {
+                    closed++;
+                }
+            }
+            System.out.println("Split " + rows + " attendance rows into " + partitions.getPartitions().size()
+                    + " monthly partitions (" + closed + " closed) in " + directory);
+        } catch (IOException e) {
+            System.err.println("Error splitting attendance CSV: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
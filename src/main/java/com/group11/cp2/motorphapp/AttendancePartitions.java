@@ -0,0 +1,381 @@
+/**
+ * Stores attendance as one CSV file per month in the MotorPH Payroll System.
+ *
+ * A directory holds files named attendance-yyyy-MM.csv, each with the usual attendance
+ * header, and a manifest.csv listing every month with its row count, a checksum of its
+ * rows and whether it is closed. Loading a period opens only the files for its months.
+ * Closed months are never rewritten, so their snapshots stay valid and can be reused.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+public class AttendancePartitions {
+    /** Name of the manifest file inside a partition directory. */
+    public static final String MANIFEST = "manifest.csv";
+
+    private static final String MANIFEST_HEADER = "Month,File,Rows,Checksum,Closed";
+
+    private final Path directory;
+    private NavigableMap<YearMonth, Partition> partitions;
+
+    /**
+     * One month of attendance as listed in the manifest.
+     */
+    public static final class Partition {
+        private final YearMonth month;
+        private final String fileName;
+        private final int rows;
+        private final long checksum;
+        private final boolean closed;
+
+        Partition(YearMonth month, String fileName, int rows, long checksum, boolean closed) {
+            this.month = month;
+            this.fileName = fileName;
+            this.rows = rows;
+            this.checksum = checksum;
+            this.closed = closed;
+        }
+
+        public YearMonth getMonth() { return month; }
+        public String getFileName() { return fileName; }
+        public int getRows() { return rows; }
+        public long getChecksum() { return checksum; }
+        public boolean isClosed() { return closed; }
+    }
+
+    private AttendancePartitions(Path directory, NavigableMap<YearMonth, Partition> partitions) {
+        this.directory = directory;
+        this.partitions = partitions;
+    }
+
+    /**
+     * Opens a partition directory by reading its manifest. A directory without a
+     * manifest opens with no partitions.
+     *
+     * @param directory Directory holding the partitions.
+     * @return AttendancePartitions for the directory.
+     */
+    public static AttendancePartitions open(Path directory) {
+        NavigableMap<YearMonth, Partition> partitions = new TreeMap<>();
+        Path manifest = directory.resolve(MANIFEST);
+        if (Files.exists(manifest)) {
+            try (BufferedReader reader = Files.newBufferedReader(manifest)) {
+                String line = reader.readLine();
+                while ((line = reader.readLine()) != null) {
+                    Partition partition = parseManifestLine(line);
+                    if (partition != null) {
+                        partitions.put(partition.month, partition);
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("Error reading attendance manifest: " + e.getMessage());
+            }
+        }
+        return new AttendancePartitions(directory, partitions);
+    }
+
+    /**
+     * Splits a single attendance CSV file, including changes still in its journal,
+     * into monthly partitions and closes the older months. The CSV file is not changed.
+     *
+     * @param csvPath Path to the attendance CSV file.
+     * @param directory Directory to hold the partitions.
+     * @param closeThrough Last month to close, or null to leave every month open.
+     * @return AttendancePartitions for the directory.
+     * @throws IOException If the partitions or manifest cannot be written.
+     */
+    public static AttendancePartitions split(String csvPath, Path directory, YearMonth closeThrough) throws IOException {
+        AttendanceStore attendance = AttendanceStore.load(csvPath);
+        try (AttendanceJournal journal = new AttendanceJournal(csvPath)) {
+            journal.replay(attendance);
+        }
+        AttendancePartitions partitions = open(directory);
+        partitions.write(attendance);
+        if (closeThrough != null) {
+            partitions.close(closeThrough);
+        }
+        return partitions;
+    }
+
+    private static Partition parseManifestLine(String line) {
+        String[] values = line.split(",", -1);
+        if (values.length != 5) {
+            System.err.println("Invalid manifest row (expected 5 columns, found " + values.length + "): " + line);
+            return null;
+        }
+        try {
+            return new Partition(YearMonth.parse(values[0].trim()), values[1].trim(),
+                    Integer.parseInt(values[2].trim()), Long.parseLong(values[3].trim(), 16),
+                    Boolean.parseBoolean(values[4].trim()));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            System.err.println("Invalid manifest row: " + line + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Gets the directory holding the partitions.
+     *
+     * @return Partition directory.
+     */
+    public Path getDirectory() { return directory; }
+
+    /**
+     * Gets every partition in month order.
+     *
+     * @return List of partitions.
+     */
+    public List<Partition> getPartitions() {
+        return new ArrayList<>(partitions.values());
+    }
+
+    /**
+     * Gets the partition of a month.
+     *
+     * @param month Year and month.
+     * @return Partition, or null if the month has no attendance.
+     */
+    public Partition get(YearMonth month) {
+        return partitions.get(month);
+    }
+
+    /**
+     * Gets the path of a month's partition file.
+     *
+     * @param month Year and month.
+     * @return Path of the partition file, whether or not it exists.
+     */
+    public Path pathOf(YearMonth month) {
+        Partition partition = partitions.get(month);
+        return directory.resolve(partition != null ? partition.fileName : fileName(month));
+    }
+
+    private static String fileName(YearMonth month) {
+        return "attendance-" + month + ".csv";
+    }
+
+    /**
+     * Loads the attendance of a range of months, reading only their partitions.
+     * Closed partitions are loaded through their snapshots.
+     *
+     * @param from First month to load.
+     * @param to Last month to load.
+     * @return AttendanceStore holding every valid row of the months.
+     */
+    public AttendanceStore load(YearMonth from, YearMonth to) {
+        List<Partition> selected = select(from, to);
+        int rows = 0;
+        for (Partition partition : selected) {
+            rows += partition.rows;
+        }
+        AttendanceStore store = new AttendanceStore(rows);
+        for (Partition partition : selected) {
+            String path = directory.resolve(partition.fileName).toString();
+            if (!partition.closed) {
+                MappedAttendanceReader.scan(path, store);
+                continue;
+            }
+            AttendanceStore cached = DataSnapshot.loadAttendance(path);
+            if (cached == null) {
+                cached = AttendanceStore.load(path);
+                DataSnapshot.saveAttendance(cached, path);
+            }
+            for (int row = cached.nextRow(0); row >= 0; row = cached.nextRow(row + 1)) {
+                store.add(cached.getEmployeeNumber(row), cached.getEpochDay(row),
+                        cached.getMinuteIn(row), cached.getMinuteOut(row));
+            }
+        }
+        return store;
+    }
+
+    /**
+     * Loads the attendance of every month.
+     *
+     * @return AttendanceStore holding every valid row.
+     */
+    public AttendanceStore loadAll() {
+        return partitions.isEmpty() ? new AttendanceStore() : load(partitions.firstKey(), partitions.lastKey());
+    }
+
+    /**
+     * Streams the partitions of a range of months into monthly totals without keeping their rows.
+     *
+     * @param from First month to read.
+     * @param to Last month to read.
+     * @return Monthly totals of every valid row of the months.
+     */
+    public MonthlyMinutes scan(YearMonth from, YearMonth to) {
+        MonthlyMinutes minutes = new MonthlyMinutes();
+        for (Partition partition : select(from, to)) {
+            MappedAttendanceReader.scan(directory.resolve(partition.fileName).toString(), minutes);
+        }
+        return minutes;
+    }
+
+    private List<Partition> select(YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(partitions.subMap(from, true, to, true).values());
+    }
+
+    /**
+     * Writes the rows of an attendance store to their monthly partitions and updates
+     * the manifest, all in one write batch. Months whose rows are unchanged are not
+     * rewritten, and open months with no rows left are deleted. Closed months are kept
+     * as they are, with a warning if the store no longer matches them.
+     *
+     * @param attendance Attendance store holding every month.
+     * @throws IOException If a partition or the manifest cannot be written.
+     */
+    public void write(AttendanceStore attendance) throws IOException {
+        Files.createDirectories(directory);
+        long[] order = monthOrder(attendance);
+        NavigableMap<YearMonth, Partition> next = new TreeMap<>();
+        WriteBatch batch = new WriteBatch();
+
+        for (int start = 0, end; start < order.length; start = end) {
+            int monthIndex = (int) (order[start] >>> 32);
+            end = start + 1;
+            while (end < order.length && (int) (order[end] >>> 32) == monthIndex) {
+                end++;
+            }
+            YearMonth month = AttendanceIndex.toYearMonth(monthIndex);
+            int rows = end - start;
+            long checksum = checksum(attendance, order, start, end);
+            Partition existing = partitions.get(month);
+            if (existing != null && existing.rows == rows && existing.checksum == checksum) {
+                next.put(month, existing);
+            } else if (existing != null && existing.closed) {
+                System.err.println("Warning: Attendance for closed month " + month + " changed; partition left as it is");
+                next.put(month, existing);
+            } else {
+                Partition partition = new Partition(month, fileName(month), rows, checksum, false);
+                int from = start;
+                int to = end;
+                batch.stage(directory.resolve(partition.fileName).toString(), writer -> {
+                    CSVHandler.writeAttendanceHeader(writer);
+                    char[] line = new char[CSVHandler.ATTENDANCE_LINE_LENGTH];
+                    for (int i = from; i < to; i++) {
+                        CSVHandler.writeAttendanceRow(attendance, (int) order[i], line, writer);
+                    }
+                });
+                next.put(month, partition);
+            }
+        }
+
+        List<Path> emptied = new ArrayList<>();
+        for (Partition partition : partitions.values()) {
+            if (next.containsKey(partition.month)) {
+                continue;
+            }
+            if (partition.closed) {
+                System.err.println("Warning: Attendance for closed month " + partition.month + " removed; partition left as it is");
+                next.put(partition.month, partition);
+            } else {
+                emptied.add(directory.resolve(partition.fileName));
+            }
+        }
+
+        commit(batch, next, emptied);
+    }
+
+    /**
+     * Closes every month up to and including the given month, so their partitions are no
+     * longer rewritten, and caches a snapshot of each newly closed partition.
+     *
+     * @param through Last month to close.
+     * @throws IOException If the manifest cannot be written.
+     */
+    public void close(YearMonth through) throws IOException {
+        NavigableMap<YearMonth, Partition> next = new TreeMap<>(partitions);
+        List<String> closed = new ArrayList<>();
+        for (Partition partition : partitions.headMap(through, true).values()) {
+            if (!partition.closed) {
+                next.put(partition.month, new Partition(partition.month, partition.fileName,
+                        partition.rows, partition.checksum, true));
+                closed.add(directory.resolve(partition.fileName).toString());
+            }
+        }
+        if (closed.isEmpty()) {
+            return;
+        }
+        WriteBatch batch = new WriteBatch();
+        batch.afterCommit(() -> {
+            for (String path : closed) {
+                DataSnapshot.saveAttendance(AttendanceStore.load(path), path);
+            }
+        });
+        commit(batch, next, new ArrayList<>());
+    }
+
+    private void commit(WriteBatch batch, NavigableMap<YearMonth, Partition> next, List<Path> emptied) throws IOException {
+        // Staged last, so the manifest only lists partitions that were moved into place first
+        batch.stage(directory.resolve(MANIFEST).toString(), writer -> {
+            writer.write(MANIFEST_HEADER);
+            writer.newLine();
+            for (Partition partition : next.values()) {
+                writer.write(partition.month + "," + partition.fileName + "," + partition.rows + ","
+                        + Long.toHexString(partition.checksum) + "," + partition.closed);
+                writer.newLine();
+            }
+        });
+        batch.afterCommit(() -> {
+            for (Path path : emptied) {
+                try {
+                    Files.deleteIfExists(path);
+                    Files.deleteIfExists(DataSnapshot.snapshotPath(path));
+                } catch (IOException e) {
+                    System.err.println("Error deleting attendance partition: " + e.getMessage());
+                }
+            }
+        });
+        batch.commit();
+        partitions = next;
+    }
+
+    /**
+     * Orders the live rows of a store by month, keeping row order within a month.
+     *
+     * @return Month index in the high 32 bits and row index in the low 32 bits, sorted.
+     */
+    private static long[] monthOrder(AttendanceStore attendance) {
+        long[] order = new long[attendance.size()];
+        int count = 0;
+        for (int row = attendance.nextRow(0); row >= 0; row = attendance.nextRow(row + 1)) {
+            order[count++] = ((long) MappedAttendanceReader.monthIndex(attendance.getEpochDay(row)) << 32) | row;
+        }
+        Arrays.sort(order, 0, count);
+        return count == order.length ? order : Arrays.copyOf(order, count);
+    }
+
+    private static long checksum(AttendanceStore attendance, long[] order, int from, int to) {
+        CRC32 crc = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(12);
+        for (int i = from; i < to; i++) {
+            int row = (int) order[i];
+            buffer.clear();
+            buffer.putInt(attendance.getEmployeeNumber(row))
+                    .putInt(attendance.getEpochDay(row))
+                    .putShort((short) attendance.getMinuteIn(row))
+                    .putShort((short) attendance.getMinuteOut(row));
+            crc.update(buffer.array(), 0, 12);
+        }
+        return crc.getValue();
+    }
+}
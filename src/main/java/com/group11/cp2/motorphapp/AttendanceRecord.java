@@ -5,12 +5,18 @@
  */
 package com.group11.cp2.motorphapp;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 public class AttendanceRecord {
@@ -26,6 +32,15 @@ public class AttendanceRecord {
     private static final LocalTime WORK_END = LocalTime.of(17, 0);
     private static final Duration BREAK_TIME = Duration.ofHours(1);
 
+    private static final int WORK_START_MINUTE = WORK_START.toSecondOfDay() / 60;
+    private static final int GRACE_END_MINUTE = GRACE_END.toSecondOfDay() / 60;
+    private static final int WORK_END_MINUTE = WORK_END.toSecondOfDay() / 60;
+    private static final int BREAK_MINUTES = (int) BREAK_TIME.toMinutes();
+
+    private static final String HOURS_HEADER = "=== MONTHLY HOURS SUMMARY ===\n";
+    private static final String PAY_HEADER = "=== MONTHLY PAY SUMMARY ===\n";
+    private static final int SUMMARY_BUFFER_SIZE = 1 << 16;
+
     /**
      * Creates an attendance record with the specified details.
      *
@@ -70,6 +85,39 @@ public class AttendanceRecord {
         this.overtimeDuration = otDuration;
     }
 
+    /**
+     * Computes regular minutes worked from minute-of-day punches, using the
+     * same rules as the Duration-based computation.
+     *
+     * @param minuteIn Time in as minute of day, or negative if missing.
+     * @param minuteOut Time out as minute of day, or negative if missing.
+     * @return Regular minutes worked.
+     */
+    static int computeRegularMinutes(int minuteIn, int minuteOut) {
+        if (minuteIn < 0 || minuteOut < 0 || minuteOut < minuteIn) {
+            return 0;
+        }
+        int adjustedIn = minuteIn > WORK_START_MINUTE && minuteIn < GRACE_END_MINUTE ? WORK_START_MINUTE : minuteIn;
+        int adjustedOut = Math.min(minuteOut, WORK_END_MINUTE);
+        return Math.max(0, adjustedOut - adjustedIn - BREAK_MINUTES);
+    }
+
+    /**
+     * Computes overtime minutes from minute-of-day punches, using the same
+     * rules as the Duration-based computation.
+     *
+     * @param minuteIn Time in as minute of day, or negative if missing.
+     * @param minuteOut Time out as minute of day, or negative if missing.
+     * @return Overtime minutes worked.
+     */
+    static int computeOvertimeMinutes(int minuteIn, int minuteOut) {
+        if (minuteIn < 0 || minuteOut < 0 || minuteOut < minuteIn) {
+            return 0;
+        }
+        boolean isLate = minuteIn > GRACE_END_MINUTE;
+        return !isLate && minuteOut > WORK_END_MINUTE ? minuteOut - WORK_END_MINUTE : 0;
+    }
+
     public int getEmployeeNumber() { return employeeNumber; }
     public LocalDate getDate() { return date; }
     public LocalTime getTimeIn() { return timeIn; }
@@ -97,132 +145,368 @@ public class AttendanceRecord {
     }
 
     /**
-     * Gets the YearMonth from a date.
+     * Prints monthly attendance summary for all employees.
      *
-     * @param date Date to extract YearMonth from.
-     * @return YearMonth instance.
+     * @param records List of attendance records.
      */
-    private static YearMonth getYearMonth(LocalDate date) { return YearMonth.from(date); }
+    public static void printMonthlySummary(List<AttendanceRecord> records) {
+        printSummary(out -> writeMonthlySummary(records, out));
+    }
 
     /**
      * Prints monthly attendance summary for all employees.
      *
-     * @param records List of attendance records.
+     * @param attendance Attendance store.
      */
-    public static void printMonthlySummary(List<AttendanceRecord> records) {
-        System.out.println(getMonthlySummary(records));
+    public static void printMonthlySummary(AttendanceStore attendance) {
+        printSummary(out -> writeMonthlySummary(attendance, out));
+    }
+
+    /**
+     * Prints monthly attendance summary for all employees.
+     *
+     * @param minutes Monthly totals streamed from an attendance file.
+     */
+    public static void printMonthlySummary(MonthlyMinutes minutes) {
+        printSummary(out -> writeMonthlySummary(minutes, out));
     }
 
     /**
      * Generates monthly attendance summary for all employees.
+     * Employees and months are listed in ascending order.
      *
      * @param records List of attendance records.
      * @return Formatted summary string.
      */
     public static String getMonthlySummary(List<AttendanceRecord> records) {
-        StringBuilder sb = new StringBuilder();
-        Map<Integer, List<AttendanceRecord>> recordsByEmployee = records.stream()
-                .collect(Collectors.groupingBy(AttendanceRecord::getEmployeeNumber));
-        for (Map.Entry<Integer, List<AttendanceRecord>> empEntry : recordsByEmployee.entrySet()) {
-            int empId = empEntry.getKey();
-            List<AttendanceRecord> empRecords = empEntry.getValue();
-            Map<YearMonth, List<AttendanceRecord>> recordsByMonth = empRecords.stream()
-                    .collect(Collectors.groupingBy(r -> YearMonth.from(r.getDate())));
-            sb.append("\nEmployee #").append(empId).append(" Monthly Summary:\n");
-            for (Map.Entry<YearMonth, List<AttendanceRecord>> monthEntry : recordsByMonth.entrySet()) {
-                YearMonth yearMonth = monthEntry.getKey();
-                List<AttendanceRecord> monthRecords = monthEntry.getValue();
-                Duration totalRegular = monthRecords.stream().map(AttendanceRecord::getRegularDuration).reduce(Duration.ZERO, Duration::plus);
-                Duration totalOT = monthRecords.stream().map(AttendanceRecord::getOvertimeDuration).reduce(Duration.ZERO, Duration::plus);
-                Duration totalWorked = totalRegular.plus(totalOT);
-                sb.append(String.format("Month %s - Regular Hours: %s | OT: %s | Total: %s\n",
-                        yearMonth, formatDuration(totalRegular), formatDuration(totalOT), formatDuration(totalWorked)));
-            }
-        }
-        return sb.toString();
+        return renderMonthlySummary(MonthlyMinutes.ofRecords(records)::forEach);
+    }
+
+    /**
+     * Generates monthly attendance summary for all employees from an attendance store.
+     * Employees and months are listed in ascending order.
+     *
+     * @param attendance Attendance store.
+     * @return Formatted summary string.
+     */
+    public static String getMonthlySummary(AttendanceStore attendance) {
+        return renderMonthlySummary(visitor -> forEachMonth(attendance, visitor));
+    }
+
+    /**
+     * Generates monthly attendance summary for all employees from streamed monthly totals.
+     * Employees and months are listed in ascending order.
+     *
+     * @param minutes Monthly totals streamed from an attendance file.
+     * @return Formatted summary string.
+     */
+    public static String getMonthlySummary(MonthlyMinutes minutes) {
+        return renderMonthlySummary(minutes::forEach);
     }
 
     /**
      * Generates monthly hours summary for employees.
+     * Employees are listed in ascending order.
      *
      * @param records List of attendance records.
      * @param employees List of employees.
      * @return Formatted hours summary string.
      */
     public static String generateMonthlySalarySummary(List<AttendanceRecord> records, List<Employee> employees) {
-        Map<Integer, Employee> employeeMap = employees.stream()
-                .collect(Collectors.toMap(Employee::getEmployeeNumber, e -> e));
-        Map<Integer, List<AttendanceRecord>> recordsByEmployee = records.stream()
-                .collect(Collectors.groupingBy(AttendanceRecord::getEmployeeNumber));
-        StringBuilder sb = new StringBuilder();
-        sb.append("=== MONTHLY HOURS SUMMARY ===\n");
-        for (Map.Entry<Integer, List<AttendanceRecord>> empEntry : recordsByEmployee.entrySet()) {
-            int empId = empEntry.getKey();
-            Employee employee = employeeMap.get(empId);
-            if (employee == null) continue;
-            String fullName = employee.getLastName() + ", " + employee.getFirstName();
-            List<AttendanceRecord> empRecords = empEntry.getValue();
-            Map<YearMonth, List<AttendanceRecord>> recordsByMonth = empRecords.stream()
-                    .collect(Collectors.groupingBy(r -> YearMonth.from(r.getDate())));
-            List<Map.Entry<YearMonth, List<AttendanceRecord>>> sortedMonths = new ArrayList<>(recordsByMonth.entrySet());
-            sortedMonths.sort(Comparator.comparing(Map.Entry::getKey));
-            for (Map.Entry<YearMonth, List<AttendanceRecord>> monthEntry : sortedMonths) {
-                YearMonth yearMonth = monthEntry.getKey();
-                List<AttendanceRecord> monthRecords = monthEntry.getValue();
-                Duration totalRegular = monthRecords.stream().map(AttendanceRecord::getRegularDuration).reduce(Duration.ZERO, Duration::plus);
-                Duration totalOT = monthRecords.stream().map(AttendanceRecord::getOvertimeDuration).reduce(Duration.ZERO, Duration::plus);
-                sb.append("Monthly Hours Summary for ").append(fullName).append(":\n")
-                        .append("-------------------------------------------------\n")
-                        .append("Month                   : ").append(yearMonth).append("\n")
-                        .append("Total Regular Hours     : ").append(formatDuration(totalRegular)).append("\n")
-                        .append("Total Overtime Hours    : ").append(formatDuration(totalOT)).append("\n\n");
-            }
-        }
-        return sb.toString();
+        return renderHoursSummary(MonthlyMinutes.ofRecords(records)::forEach, byEmployeeNumber(employees)::get);
+    }
+
+    /**
+     * Generates monthly hours summary for employees from an attendance store.
+     * Employees are listed in ascending order.
+     *
+     * @param attendance Attendance store.
+     * @param employees Employee repository.
+     * @return Formatted hours summary string.
+     */
+    public static String generateMonthlySalarySummary(AttendanceStore attendance, EmployeeRepository employees) {
+        return renderHoursSummary(visitor -> forEachMonth(attendance, visitor), employees::get);
+    }
+
+    /**
+     * Generates monthly hours summary for employees from streamed monthly totals.
+     * Employees are listed in ascending order.
+     *
+     * @param minutes Monthly totals streamed from an attendance file.
+     * @param employees Employee repository.
+     * @return Formatted hours summary string.
+     */
+    public static String generateMonthlySalarySummary(MonthlyMinutes minutes, EmployeeRepository employees) {
+        return renderHoursSummary(minutes::forEach, employees::get);
     }
 
     /**
      * Generates monthly pay summary for employees.
+     * Employees are listed in ascending order.
      *
      * @param records List of attendance records.
      * @param employees List of employees.
      * @return Formatted pay summary string.
      */
     public static String generatePaySummary(List<AttendanceRecord> records, List<Employee> employees) {
-        Map<Integer, Employee> employeeMap = employees.stream().collect(Collectors.toMap(Employee::getEmployeeNumber, e -> e));
-        Map<Integer, List<AttendanceRecord>> recordsByEmployee = records.stream().collect(Collectors.groupingBy(AttendanceRecord::getEmployeeNumber));
-        StringBuilder sb = new StringBuilder();
-        sb.append("=== MONTHLY PAY SUMMARY ===\n");
-        for (Map.Entry<Integer, List<AttendanceRecord>> empEntry : recordsByEmployee.entrySet()) {
-            int empId = empEntry.getKey();
-            Employee employee = employeeMap.get(empId);
-            if (employee == null) continue;
-            String fullName = employee.getLastName() + ", " + employee.getFirstName();
-            List<AttendanceRecord> empRecords = empEntry.getValue();
-            Map<YearMonth, List<AttendanceRecord>> recordsByMonth = empRecords.stream().collect(Collectors.groupingBy(r -> YearMonth.from(r.getDate())));
-            List<Map.Entry<YearMonth, List<AttendanceRecord>>> sortedMonths = new ArrayList<>(recordsByMonth.entrySet());
-            sortedMonths.sort(Comparator.comparing(Map.Entry::getKey));
-            for (Map.Entry<YearMonth, List<AttendanceRecord>> monthEntry : sortedMonths) {
-                YearMonth yearMonth = monthEntry.getKey();
-                List<AttendanceRecord> monthRecords = monthEntry.getValue();
-                Duration totalRegular = monthRecords.stream().map(AttendanceRecord::getRegularDuration).reduce(Duration.ZERO, Duration::plus);
-                Duration totalOT = monthRecords.stream().map(AttendanceRecord::getOvertimeDuration).reduce(Duration.ZERO, Duration::plus);
-                CompensationDetails comp = employee.getCompensationDetails();
-                double regularPay = totalRegular.toHours() * comp.getHourlyRate();
-                double otPay = totalOT.toHours() * (comp.getHourlyRate() * 1.5);
-                double grossPay = regularPay + otPay + comp.getRiceSubsidy() + comp.getPhoneAllowance() + comp.getClothingAllowance();
-                sb.append("Monthly Pay Summary for ").append(fullName).append(":\n")
-                        .append("-------------------------------------------------\n")
-                        .append("Month                   : ").append(yearMonth).append("\n")
-                        .append("Total Regular Hours     : ").append(formatDuration(totalRegular)).append("\n")
-                        .append("Total Overtime Hours    : ").append(formatDuration(totalOT)).append("\n")
-                        .append("Regular Pay             : ").append(String.format("%.2f", regularPay)).append("\n")
-                        .append("Overtime Pay            : ").append(String.format("%.2f", otPay)).append("\n")
-                        .append("Allowances              : ").append(String.format("%.2f", comp.getRiceSubsidy() + comp.getPhoneAllowance() + comp.getClothingAllowance())).append("\n")
-                        .append("Gross Pay               : ").append(String.format("%.2f", grossPay)).append("\n\n");
+        return renderPaySummary(MonthlyMinutes.ofRecords(records)::forEach, byEmployeeNumber(employees)::get);
+    }
+
+    /**
+     * Generates monthly pay summary for employees from an attendance store.
+     * Employees are listed in ascending order.
+     *
+     * @param attendance Attendance store.
+     * @param employees Employee repository.
+     * @return Formatted pay summary string.
+     */
+    public static String generatePaySummary(AttendanceStore attendance, EmployeeRepository employees) {
+        return renderPaySummary(visitor -> forEachMonth(attendance, visitor), employees::get);
+    }
+
+    /**
+     * Generates monthly pay summary for employees from streamed monthly totals.
+     * Employees are listed in ascending order.
+     *
+     * @param minutes Monthly totals streamed from an attendance file.
+     * @param employees Employee repository.
+     * @return Formatted pay summary string.
+     */
+    public static String generatePaySummary(MonthlyMinutes minutes, EmployeeRepository employees) {
+        return renderPaySummary(minutes::forEach, employees::get);
+    }
+
+    /**
+     * Writes monthly attendance summary for all employees block by block, without building
+     * the whole report in memory. The text is the same as {@link #getMonthlySummary(List)}.
+     *
+     * @param records List of attendance records.
+     * @param out Destination; it is not flushed or closed.
+     * @throws IOException If the destination cannot be written.
+     */
+    public static void writeMonthlySummary(List<AttendanceRecord> records, Writer out) throws IOException {
+        SummaryRenderer.write("", MonthlyMinutes.ofRecords(records)::forEach, AttendanceRecord::appendMonthlyBlock, out);
+    }
+
+    /**
+     * Writes monthly attendance summary for all employees from an attendance store block by block.
+     *
+     * @param attendance Attendance store.
+     * @param out Destination; it is not flushed or closed.
+     * @throws IOException If the destination cannot be written.
+     */
+    public static void writeMonthlySummary(AttendanceStore attendance, Writer out) throws IOException {
+        SummaryRenderer.write("", visitor -> forEachMonth(attendance, visitor), AttendanceRecord::appendMonthlyBlock, out);
+    }
+
+    /**
+     * Writes monthly attendance summary for all employees from streamed monthly totals block by block.
+     * Memory stays proportional to the number of employee-months, not to the report.
+     *
+     * @param minutes Monthly totals streamed from an attendance file.
+     * @param out Destination; it is not flushed or closed.
+     * @throws IOException If the destination cannot be written.
+     */
+    public static void writeMonthlySummary(MonthlyMinutes minutes, Writer out) throws IOException {
+        SummaryRenderer.write("", minutes::forEach, AttendanceRecord::appendMonthlyBlock, out);
+    }
+
+    /**
+     * Writes monthly hours summary for employees block by block.
+     *
+     * @param records List of attendance records.
+     * @param employees List of employees.
+     * @param out Destination; it is not flushed or closed.
+     * @throws IOException If the destination cannot be written.
+     */
+    public static void writeMonthlySalarySummary(List<AttendanceRecord> records, List<Employee> employees, Writer out) throws IOException {
+        SummaryRenderer.write(HOURS_HEADER, MonthlyMinutes.ofRecords(records)::forEach, hoursBlocks(byEmployeeNumber(employees)::get), out);
+    }
+
+    /**
+     * Writes monthly hours summary for employees from an attendance store block by block.
+     *
+     * @param attendance Attendance store.
+     * @param employees Employee repository.
+     * @param out Destination; it is not flushed or closed.
+     * @throws IOException If the destination cannot be written.
+     */
+    public static void writeMonthlySalarySummary(AttendanceStore attendance, EmployeeRepository employees, Writer out) throws IOException {
+        SummaryRenderer.write(HOURS_HEADER, visitor -> forEachMonth(attendance, visitor), hoursBlocks(employees::get), out);
+    }
+
+    /**
+     * Writes monthly hours summary for employees from streamed monthly totals block by block.
+     *
+     * @param minutes Monthly totals streamed from an attendance file.
+     * @param employees Employee repository.
+     * @param out Destination; it is not flushed or closed.
+     * @throws IOException If the destination cannot be written.
+     */
+    public static void writeMonthlySalarySummary(MonthlyMinutes minutes, EmployeeRepository employees, Writer out) throws IOException {
+        SummaryRenderer.write(HOURS_HEADER, minutes::forEach, hoursBlocks(employees::get), out);
+    }
+
+    /**
+     * Writes monthly pay summary for employees block by block.
+     *
+     * @param records List of attendance records.
+     * @param employees List of employees.
+     * @param out Destination; it is not flushed or closed.
+     * @throws IOException If the destination cannot be written.
+     */
+    public static void writePaySummary(List<AttendanceRecord> records, List<Employee> employees, Writer out) throws IOException {
+        SummaryRenderer.write(PAY_HEADER, MonthlyMinutes.ofRecords(records)::forEach, payBlocks(byEmployeeNumber(employees)::get), out);
+    }
+
+    /**
+     * Writes monthly pay summary for employees from an attendance store block by block.
+     *
+     * @param attendance Attendance store.
+     * @param employees Employee repository.
+     * @param out Destination; it is not flushed or closed.
+     * @throws IOException If the destination cannot be written.
+     */
+    public static void writePaySummary(AttendanceStore attendance, EmployeeRepository employees, Writer out) throws IOException {
+        SummaryRenderer.write(PAY_HEADER, visitor -> forEachMonth(attendance, visitor), payBlocks(employees::get), out);
+    }
+
+    /**
+     * Writes monthly pay summary for employees from streamed monthly totals block by block.
+     *
+     * @param minutes Monthly totals streamed from an attendance file.
+     * @param employees Employee repository.
+     * @param out Destination; it is not flushed or closed.
+     * @throws IOException If the destination cannot be written.
+     */
+    public static void writePaySummary(MonthlyMinutes minutes, EmployeeRepository employees, Writer out) throws IOException {
+        SummaryRenderer.write(PAY_HEADER, minutes::forEach, payBlocks(employees::get), out);
+    }
+
+    /**
+     * Opens a buffered UTF-8 writer over a byte stream for the write methods above.
+     * Flush it when done; closing it also closes the stream.
+     *
+     * @param out Byte stream, such as a file or socket output stream.
+     * @return Buffered writer.
+     */
+    public static Writer newSummaryWriter(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), SUMMARY_BUFFER_SIZE);
+    }
+
+    /**
+     * Streams a summary to standard output followed by a line separator, like println.
+     */
+    private static void printSummary(SummaryWriter summary) {
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, System.out.charset()), SUMMARY_BUFFER_SIZE);
+        try {
+            summary.writeTo(out);
+            out.write(System.lineSeparator());
+            out.flush();
+        } catch (IOException e) {
+            System.err.println("Error printing summary: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes a summary to a destination.
+     */
+    @FunctionalInterface
+    private interface SummaryWriter {
+        void writeTo(Writer out) throws IOException;
+    }
+
+    private static Map<Integer, Employee> byEmployeeNumber(List<Employee> employees) {
+        return employees.stream().collect(Collectors.toMap(Employee::getEmployeeNumber, e -> e));
+    }
+
+    /**
+     * Visits the totals of every employee and month in an attendance store, in ascending order.
+     */
+    private static void forEachMonth(AttendanceStore attendance, MonthlyMinutes.Visitor visitor) {
+        AttendanceIndex index = attendance.getIndex();
+        for (int empId : index.employeeNumbers()) {
+            AttendanceIndex.Rows months = index.months(empId);
+            for (int i = 0; i < months.size(); i++) {
+                AttendanceIndex.Rows monthRows = index.slice(empId, months.get(i));
+                visitor.month(empId, months.get(i), attendance.sumRegularMinutes(monthRows), attendance.sumOvertimeMinutes(monthRows));
             }
         }
-        return sb.toString();
+    }
+
+    // Each report has one renderer; the overloads above differ only in where the monthly totals come from.
+    // Blocks are formatted in parallel by SummaryRenderer, so the block writers must not share state.
+
+    private static String renderMonthlySummary(Consumer<MonthlyMinutes.Visitor> months) {
+        return SummaryRenderer.render("", months, 100, AttendanceRecord::appendMonthlyBlock);
+    }
+
+    private static String renderHoursSummary(Consumer<MonthlyMinutes.Visitor> months, IntFunction<Employee> employees) {
+        return SummaryRenderer.render(HOURS_HEADER, months, 240, hoursBlocks(employees));
+    }
+
+    private static String renderPaySummary(Consumer<MonthlyMinutes.Visitor> months, IntFunction<Employee> employees) {
+        return SummaryRenderer.render(PAY_HEADER, months, 460, payBlocks(employees));
+    }
+
+    private static void appendMonthlyBlock(StringBuilder sb, int empId, int month, long regular, long overtime, boolean firstOfEmployee) {
+        if (firstOfEmployee) {
+            appendMonthlySummaryHeader(sb, empId);
+        }
+        appendMonthlySummaryLine(sb, month, regular, overtime);
+    }
+
+    private static SummaryRenderer.BlockWriter hoursBlocks(IntFunction<Employee> employees) {
+        return (sb, empId, month, regular, overtime, firstOfEmployee) -> {
+            Employee employee = employees.apply(empId);
+            if (employee != null) {
+                appendHoursSummary(sb, employee, month, regular, overtime);
+            }
+        };
+    }
+
+    private static SummaryRenderer.BlockWriter payBlocks(IntFunction<Employee> employees) {
+        return (sb, empId, month, regular, overtime, firstOfEmployee) -> {
+            Employee employee = employees.apply(empId);
+            if (employee != null) {
+                appendPaySummary(sb, employee, month, regular, overtime);
+            }
+        };
+    }
+
+    private static void appendMonthlySummaryHeader(StringBuilder sb, int empId) {
+        sb.append("\nEmployee #").append(empId).append(" Monthly Summary:\n");
+    }
+
+    private static void appendMonthlySummaryLine(StringBuilder sb, int month, long regularMinutes, long overtimeMinutes) {
+        SummaryRenderer.appendMonth(sb.append("Month "), month).append(" - Regular Hours: ");
+        SummaryRenderer.appendMinutes(sb, regularMinutes).append(" | OT: ");
+        SummaryRenderer.appendMinutes(sb, overtimeMinutes).append(" | Total: ");
+        SummaryRenderer.appendMinutes(sb, regularMinutes + overtimeMinutes).append('\n');
+    }
+
+    private static void appendHoursSummary(StringBuilder sb, Employee employee, int month, long regularMinutes, long overtimeMinutes) {
+        sb.append("Monthly Hours Summary for ").append(employee.getLastName()).append(", ").append(employee.getFirstName()).append(":\n")
+                .append("-------------------------------------------------\n");
+        SummaryRenderer.appendMonth(sb.append("Month                   : "), month).append("\n");
+        SummaryRenderer.appendMinutes(sb.append("Total Regular Hours     : "), regularMinutes).append("\n");
+        SummaryRenderer.appendMinutes(sb.append("Total Overtime Hours    : "), overtimeMinutes).append("\n\n");
+    }
+
+    private static void appendPaySummary(StringBuilder sb, Employee employee, int month, long regularMinutes, long overtimeMinutes) {
+        CompensationDetails comp = employee.getCompensationDetails();
+        double regularPay = (regularMinutes / 60) * comp.getHourlyRate();
+        double otPay = (overtimeMinutes / 60) * (comp.getHourlyRate() * 1.5);
+        double grossPay = regularPay + otPay + comp.getRiceSubsidy() + comp.getPhoneAllowance() + comp.getClothingAllowance();
+        sb.append("Monthly Pay Summary for ").append(employee.getLastName()).append(", ").append(employee.getFirstName()).append(":\n")
+                .append("-------------------------------------------------\n");
+        SummaryRenderer.appendMonth(sb.append("Month                   : "), month).append("\n");
+        SummaryRenderer.appendMinutes(sb.append("Total Regular Hours     : "), regularMinutes).append("\n");
+        SummaryRenderer.appendMinutes(sb.append("Total Overtime Hours    : "), overtimeMinutes).append("\n");
+        Money.appendPesos(sb.append("Regular Pay             : "), regularPay).append("\n");
+        Money.appendPesos(sb.append("Overtime Pay            : "), otPay).append("\n");
+        Money.appendPesos(sb.append("Allowances              : "), comp.getRiceSubsidy() + comp.getPhoneAllowance() + comp.getClothingAllowance()).append("\n");
+        Money.appendPesos(sb.append("Gross Pay               : "), grossPay).append("\n\n");
     }
 
     /**
@@ -0,0 +1,372 @@
+/**
+ * Stores attendance records as parallel primitive columns in the MotorPH Payroll System.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+public class AttendanceStore implements MappedAttendanceReader.RowHandler, AttendanceTotals {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final ChangeListener[] NO_LISTENERS = new ChangeListener[0];
+
+    private int[] employeeNumbers;
+    private int[] epochDays;
+    private short[] minutesIn;
+    private short[] minutesOut;
+    private short[] regularMinutes;
+    private short[] overtimeMinutes;
+    private final BitSet deleted = new BitSet();
+    private final AttendanceIndex index = new AttendanceIndex();
+    private int rowCount;
+    private int size;
+    private ChangeListener[] listeners = NO_LISTENERS;
+
+    /**
+     * Receives the employee and month of every row added to or removed from a store.
+     */
+    @FunctionalInterface
+    public interface ChangeListener {
+        /**
+         * Called after a row of an employee and month was added or removed.
+         *
+         * @param employeeNumber Employee's unique ID.
+         * @param monthIndex Month number from {@link AttendanceIndex#monthIndex(java.time.YearMonth)}.
+         */
+        void attendanceChanged(int employeeNumber, int monthIndex);
+    }
+
+    /**
+     * Creates an empty attendance store.
+     */
+    public AttendanceStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an empty attendance store with room for the given number of rows.
+     *
+     * @param capacity Initial row capacity.
+     */
+    public AttendanceStore(int capacity) {
+        capacity = Math.max(capacity, 16);
+        employeeNumbers = new int[capacity];
+        epochDays = new int[capacity];
+        minutesIn = new short[capacity];
+        minutesOut = new short[capacity];
+        regularMinutes = new short[capacity];
+        overtimeMinutes = new short[capacity];
+    }
+
+    /**
+     * Loads attendance records from a CSV file.
+     *
+     * @param filePath Path to the CSV file.
+     * @return AttendanceStore holding every valid row.
+     */
+    public static AttendanceStore load(String filePath) {
+        AttendanceStore store = new AttendanceStore();
+        MappedAttendanceReader.scan(filePath, store);
+        return store;
+    }
+
+    /**
+     * Creates a store holding the given attendance records.
+     *
+     * @param records List of attendance records.
+     * @return AttendanceStore with one row per record.
+     */
+    public static AttendanceStore fromRecords(List<AttendanceRecord> records) {
+        AttendanceStore store = new AttendanceStore(records.size());
+        for (AttendanceRecord record : records) {
+            store.record(record);
+        }
+        return store;
+    }
+
+    /**
+     * Creates a store over columns that were already filled, such as from a snapshot,
+     * and indexes them. The arrays are used as they are, not copied.
+     *
+     * @param rows Number of rows in the columns.
+     * @return AttendanceStore with every row live.
+     */
+    static AttendanceStore fromColumns(int rows, int[] employeeNumbers, int[] epochDays,
+                                       short[] minutesIn, short[] minutesOut,
+                                       short[] regularMinutes, short[] overtimeMinutes) {
+        AttendanceStore store = new AttendanceStore(0);
+        store.employeeNumbers = employeeNumbers;
+        store.epochDays = epochDays;
+        store.minutesIn = minutesIn;
+        store.minutesOut = minutesOut;
+        store.regularMinutes = regularMinutes;
+        store.overtimeMinutes = overtimeMinutes;
+        for (int row = 0; row < rows; row++) {
+            store.index.add(row, employeeNumbers[row], MappedAttendanceReader.monthIndex(epochDays[row]));
+        }
+        store.rowCount = rows;
+        store.size = rows;
+        return store;
+    }
+
+    /**
+     * Adds a row parsed by the attendance reader, warning about missing or reversed punches
+     * the same way AttendanceRecord does.
+     */
+    @Override
+    public void row(int employeeNumber, int epochDay, int minuteIn, int minuteOut) {
+        if (minuteIn < 0 || minuteOut < 0) {
+            System.err.println("Warning: Null timeIn or timeOut for employee #" + employeeNumber + " on " + LocalDate.ofEpochDay(epochDay));
+        } else if (minuteOut < minuteIn) {
+            System.err.println("Warning: Invalid time range for employee #" + employeeNumber + " on " + LocalDate.ofEpochDay(epochDay) + ": timeOut before timeIn");
+        }
+        add(employeeNumber, epochDay, minuteIn, minuteOut);
+    }
+
+    /**
+     * Adds a row that was already parsed into an AttendanceRecord.
+     */
+    @Override
+    public void record(AttendanceRecord record) {
+        add(record.getEmployeeNumber(), (int) record.getDate().toEpochDay(),
+                MappedAttendanceReader.toMinuteOfDay(record.getTimeIn()),
+                MappedAttendanceReader.toMinuteOfDay(record.getTimeOut()));
+    }
+
+    /**
+     * Adds an attendance row and precomputes its regular and overtime minutes.
+     *
+     * @param employeeNumber Employee's unique ID.
+     * @param epochDay Date of the record as days since 1970-01-01.
+     * @param minuteIn Time in as minute of day, or {@link MappedAttendanceReader#NO_TIME}.
+     * @param minuteOut Time out as minute of day, or {@link MappedAttendanceReader#NO_TIME}.
+     * @return Index of the new row.
+     */
+    public int add(int employeeNumber, int epochDay, int minuteIn, int minuteOut) {
+        if (rowCount == employeeNumbers.length) {
+            grow();
+        }
+        int row = rowCount++;
+        employeeNumbers[row] = employeeNumber;
+        epochDays[row] = epochDay;
+        minutesIn[row] = (short) minuteIn;
+        minutesOut[row] = (short) minuteOut;
+        regularMinutes[row] = (short) AttendanceRecord.computeRegularMinutes(minuteIn, minuteOut);
+        overtimeMinutes[row] = (short) AttendanceRecord.computeOvertimeMinutes(minuteIn, minuteOut);
+        int monthIndex = MappedAttendanceReader.monthIndex(epochDay);
+        index.add(row, employeeNumber, monthIndex);
+        size++;
+        fireChanged(employeeNumber, monthIndex);
+        return row;
+    }
+
+    private void grow() {
+        int capacity = employeeNumbers.length + (employeeNumbers.length >> 1);
+        employeeNumbers = Arrays.copyOf(employeeNumbers, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        minutesIn = Arrays.copyOf(minutesIn, capacity);
+        minutesOut = Arrays.copyOf(minutesOut, capacity);
+        regularMinutes = Arrays.copyOf(regularMinutes, capacity);
+        overtimeMinutes = Arrays.copyOf(overtimeMinutes, capacity);
+    }
+
+    /**
+     * Removes every row belonging to an employee.
+     *
+     * @param employeeNumber Employee's unique ID.
+     * @return Number of rows removed.
+     */
+    public int removeEmployee(int employeeNumber) {
+        int removed = 0;
+        AttendanceIndex.Rows months = index.months(employeeNumber);
+        int[] changedMonths = new int[months.size()];
+        for (int i = 0; i < months.size(); i++) {
+            changedMonths[i] = months.get(i);
+            AttendanceIndex.Rows slice = index.slice(employeeNumber, months.get(i));
+            for (int j = 0; j < slice.size(); j++) {
+                deleted.set(slice.get(j));
+                removed++;
+            }
+        }
+        index.removeEmployee(employeeNumber);
+        size -= removed;
+        for (int monthIndex : changedMonths) {
+            fireChanged(employeeNumber, monthIndex);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes a single row. Row indices of other rows are unchanged.
+     *
+     * @param row Row index.
+     */
+    public void remove(int row) {
+        if (row >= 0 && row < rowCount && !deleted.get(row)) {
+            int monthIndex = MappedAttendanceReader.monthIndex(epochDays[row]);
+            deleted.set(row);
+            index.remove(row, employeeNumbers[row], monthIndex);
+            size--;
+            fireChanged(employeeNumbers[row], monthIndex);
+        }
+    }
+
+    /**
+     * Registers a listener for rows added or removed from now on.
+     *
+     * @param listener Listener to add.
+     */
+    public void addChangeListener(ChangeListener listener) {
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener Listener to remove.
+     */
+    public void removeChangeListener(ChangeListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                ChangeListener[] remaining = new ChangeListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, remaining, 0, i);
+                System.arraycopy(listeners, i + 1, remaining, i, remaining.length - i);
+                listeners = remaining;
+                return;
+            }
+        }
+    }
+
+    private void fireChanged(int employeeNumber, int monthIndex) {
+        for (ChangeListener listener : listeners) {
+            listener.attendanceChanged(employeeNumber, monthIndex);
+        }
+    }
+
+    /**
+     * Removes the first live row of an employee with the given date and punches.
+     * Used where row indices are not stable, such as when replaying a journal.
+     *
+     * @param employeeNumber Employee's unique ID.
+     * @param epochDay Date of the record as days since 1970-01-01.
+     * @param minuteIn Time in as minute of day, or {@link MappedAttendanceReader#NO_TIME}.
+     * @param minuteOut Time out as minute of day, or {@link MappedAttendanceReader#NO_TIME}.
+     * @return Index of the removed row, or -1 if no row matched.
+     */
+    public int removeMatching(int employeeNumber, int epochDay, int minuteIn, int minuteOut) {
+        AttendanceIndex.Rows slice = index.slice(employeeNumber, MappedAttendanceReader.monthIndex(epochDay));
+        for (int i = 0; i < slice.size(); i++) {
+            int row = slice.get(i);
+            if (epochDays[row] == epochDay && minutesIn[row] == minuteIn && minutesOut[row] == minuteOut) {
+                remove(row);
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the number of live rows.
+     *
+     * @return Number of attendance rows.
+     */
+    public int size() { return size; }
+
+    /**
+     * Gets the employee and month index over the live rows.
+     *
+     * @return Attendance index.
+     */
+    public AttendanceIndex getIndex() { return index; }
+
+    /**
+     * Gets the next live row at or after a row index.
+     * Iterate with {@code for (int r = store.nextRow(0); r >= 0; r = store.nextRow(r + 1))}.
+     *
+     * @param from Row index to start from.
+     * @return Index of the next live row, or -1 if there is none.
+     */
+    public int nextRow(int from) {
+        int row = deleted.nextClearBit(from);
+        return row < rowCount ? row : -1;
+    }
+
+    public int getEmployeeNumber(int row) { return employeeNumbers[row]; }
+    public int getEpochDay(int row) { return epochDays[row]; }
+    public int getMinuteIn(int row) { return minutesIn[row]; }
+    public int getMinuteOut(int row) { return minutesOut[row]; }
+    public int getRegularMinutes(int row) { return regularMinutes[row]; }
+    public int getOvertimeMinutes(int row) { return overtimeMinutes[row]; }
+
+    public LocalDate getDate(int row) { return LocalDate.ofEpochDay(epochDays[row]); }
+    public LocalTime getTimeIn(int row) { return MappedAttendanceReader.toLocalTime(minutesIn[row]); }
+    public LocalTime getTimeOut(int row) { return MappedAttendanceReader.toLocalTime(minutesOut[row]); }
+
+    /**
+     * Sums the regular minutes of a set of rows.
+     *
+     * @param rows Row indices, such as an index slice.
+     * @return Total regular minutes.
+     */
+    public long sumRegularMinutes(AttendanceIndex.Rows rows) {
+        long total = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            total += regularMinutes[rows.get(i)];
+        }
+        return total;
+    }
+
+    /**
+     * Sums the overtime minutes of a set of rows.
+     *
+     * @param rows Row indices, such as an index slice.
+     * @return Total overtime minutes.
+     */
+    public long sumOvertimeMinutes(AttendanceIndex.Rows rows) {
+        long total = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            total += overtimeMinutes[rows.get(i)];
+        }
+        return total;
+    }
+
+    @Override
+    public long regularMinutes(int employeeNumber, int monthIndex) {
+        return sumRegularMinutes(index.slice(employeeNumber, monthIndex));
+    }
+
+    @Override
+    public long overtimeMinutes(int employeeNumber, int monthIndex) {
+        return sumOvertimeMinutes(index.slice(employeeNumber, monthIndex));
+    }
+
+    /**
+     * Materialises a row as an AttendanceRecord.
+     *
+     * @param row Row index.
+     * @return AttendanceRecord for the row.
+     */
+    public AttendanceRecord toRecord(int row) {
+        return new AttendanceRecord(employeeNumbers[row], getDate(row), getTimeIn(row), getTimeOut(row));
+    }
+
+    /**
+     * Materialises every live row as an AttendanceRecord.
+     *
+     * @return List of attendance records in row order.
+     */
+    public List<AttendanceRecord> toRecords() {
+        List<AttendanceRecord> records = new ArrayList<>(size);
+        for (int row = nextRow(0); row >= 0; row = nextRow(row + 1)) {
+            records.add(toRecord(row));
+        }
+        return records;
+    }
+}
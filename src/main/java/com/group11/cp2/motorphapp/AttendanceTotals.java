@@ -0,0 +1,26 @@
+/**
+ * Regular and overtime minutes worked per employee and month in the MotorPH Payroll System.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+public interface AttendanceTotals {
+    /**
+     * Gets the regular minutes an employee worked in a month.
+     *
+     * @param employeeNumber Employee's unique ID.
+     * @param monthIndex Month number from {@link AttendanceIndex#monthIndex(java.time.YearMonth)}.
+     * @return Regular minutes; 0 if there is no attendance.
+     */
+    long regularMinutes(int employeeNumber, int monthIndex);
+
+    /**
+     * Gets the overtime minutes an employee worked in a month.
+     *
+     * @param employeeNumber Employee's unique ID.
+     * @param monthIndex Month number from {@link AttendanceIndex#monthIndex(java.time.YearMonth)}.
+     * @return Overtime minutes; 0 if there is no attendance.
+     */
+    long overtimeMinutes(int employeeNumber, int monthIndex);
+}
@@ -6,12 +6,15 @@
 package com.group11.cp2.motorphapp;
 
 import java.io.*;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class CSVHandler {
 
@@ -19,6 +22,9 @@ public class CSVHandler {
     private static final DateTimeFormatter attendanceDateFormatter = DateTimeFormatter.ofPattern("MM/dd/yyyy");
     private static final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("H:mm");
 
+    /** Longest attendance CSV line written by {@link #writeAttendanceRow}, without the line break. */
+    static final int ATTENDANCE_LINE_LENGTH = 64;
+
     /**
      * Reads employee data from a CSV file.
      *
@@ -37,61 +43,9 @@ public class CSVHandler {
                     continue;
                 }
 
-                List<String> values = parseCSVLine(line);
-
-                if (values.size() >= 18) {
-                    try {
-                        int employeeNumber = Integer.parseInt(values.get(0).trim());
-                        String lastName = values.get(1).trim();
-                        String firstName = values.get(2).trim();
-                        LocalDate birthday = LocalDate.parse(values.get(3).trim(), employeeDateFormatter);
-                        String employmentStatus = values.get(10).trim();
-                        String position = values.get(11).trim();
-                        double basicSalary = parseDouble(values.get(13).trim());
-                        double riceSubsidy = parseDouble(values.get(14).trim());
-                        double phoneAllowance = parseDouble(values.get(15).trim());
-                        double clothingAllowance = parseDouble(values.get(16).trim());
-                        double grossSemiMonthlyRate = parseDouble(values.get(17).trim());
-                        double hourlyRate = parseDouble(values.get(18).trim());
-
-                        GovernmentDetails govDetails = new GovernmentDetails(
-                                values.get(6).trim(),
-                                values.get(7).trim(),
-                                values.get(8).trim(),
-                                values.get(9).trim()
-                        );
-
-                        CompensationDetails compensation = new CompensationDetails(
-                                basicSalary,
-                                riceSubsidy,
-                                phoneAllowance,
-                                clothingAllowance,
-                                grossSemiMonthlyRate,
-                                hourlyRate
-                        );
-
-                        Employee employee = new Employee(
-                                employeeNumber,
-                                lastName,
-                                firstName,
-                                birthday,
-                                position,
-                                employmentStatus,
-                                compensation,
-                                govDetails
-                        );
-
-                        employees.add(employee);
-                    } catch (DateTimeParseException e) {
-                        System.err.println("Invalid date format in line: " + line);
-                    } catch (NumberFormatException e) {
-                        System.err.println("Invalid number format in employee line: " + line);
-                    } catch (Exception e) {
-                        System.err.println("Error parsing employee line: " + line);
-                        e.printStackTrace();
-                    }
-                } else {
-                    System.err.println("Invalid employee row (too few columns): " + line);
+                Employee employee = parseEmployeeLine(line, System.err::println);
+                if (employee != null) {
+                    employees.add(employee);
                 }
             }
         } catch (IOException e) {
@@ -101,6 +55,73 @@ public class CSVHandler {
         return employees;
     }
 
+    /**
+     * Parses a single employee CSV line.
+     *
+     * @param line The CSV line to parse.
+     * @param errors Receiver for error messages.
+     * @return Parsed Employee, or null if the line is invalid.
+     */
+    static Employee parseEmployeeLine(String line, Consumer<String> errors) {
+        List<String> values = parseCSVLine(line);
+
+        if (values.size() >= 18) {
+            try {
+                int employeeNumber = Integer.parseInt(values.get(0).trim());
+                String lastName = values.get(1).trim();
+                String firstName = values.get(2).trim();
+                String birthdayStr = values.get(3).trim();
+                LocalDate birthday = parseDate(birthdayStr, DateTimeParser.parseEmployeeDate(birthdayStr),
+                        employeeDateFormatter);
+                String employmentStatus = values.get(10).trim();
+                String position = values.get(11).trim();
+                double basicSalary = parseDouble(values.get(13).trim());
+                double riceSubsidy = parseDouble(values.get(14).trim());
+                double phoneAllowance = parseDouble(values.get(15).trim());
+                double clothingAllowance = parseDouble(values.get(16).trim());
+                double grossSemiMonthlyRate = parseDouble(values.get(17).trim());
+                double hourlyRate = parseDouble(values.get(18).trim());
+
+                GovernmentDetails govDetails = new GovernmentDetails(
+                        values.get(6).trim(),
+                        values.get(7).trim(),
+                        values.get(8).trim(),
+                        values.get(9).trim()
+                );
+
+                CompensationDetails compensation = new CompensationDetails(
+                        basicSalary,
+                        riceSubsidy,
+                        phoneAllowance,
+                        clothingAllowance,
+                        grossSemiMonthlyRate,
+                        hourlyRate
+                );
+
+                return new Employee(
+                        employeeNumber,
+                        lastName,
+                        firstName,
+                        birthday,
+                        position,
+                        employmentStatus,
+                        compensation,
+                        govDetails
+                );
+            } catch (DateTimeParseException e) {
+                errors.accept("Invalid date format in line: " + line);
+            } catch (NumberFormatException e) {
+                errors.accept("Invalid number format in employee line: " + line);
+            } catch (Exception e) {
+                errors.accept("Error parsing employee line: " + line);
+                e.printStackTrace();
+            }
+        } else {
+            errors.accept("Invalid employee row (too few columns): " + line);
+        }
+        return null;
+    }
+
     /**
      * Reads attendance records from a CSV file.
      *
@@ -119,37 +140,9 @@ public class CSVHandler {
                     continue;
                 }
 
-                List<String> values = parseCSVLine(line);
-
-                if (values.size() >= 4) {
-                    try {
-                        int employeeNumber = Integer.parseInt(values.get(0).trim());
-                        LocalDate date = LocalDate.parse(values.get(1).trim(), attendanceDateFormatter);
-
-                        LocalTime timeIn = null;
-                        String timeInStr = values.get(2).trim();
-                        if (!timeInStr.isEmpty()) {
-                            timeIn = LocalTime.parse(timeInStr, timeFormatter);
-                        }
-
-                        LocalTime timeOut = null;
-                        String timeOutStr = values.get(3).trim();
-                        if (!timeOutStr.isEmpty()) {
-                            timeOut = LocalTime.parse(timeOutStr, timeFormatter);
-                        }
-
-                        AttendanceRecord record = new AttendanceRecord(employeeNumber, date, timeIn, timeOut);
-                        records.add(record);
-                    } catch (DateTimeParseException e) {
-                        System.err.println("Invalid date or time format in attendance line: " + line + ", Error: " + e.getMessage());
-                    } catch (NumberFormatException e) {
-                        System.err.println("Invalid employee number format in attendance line: " + line + ", Error: " + e.getMessage());
-                    } catch (Exception e) {
-                        System.err.println("Error parsing attendance line: " + line + ", Error: " + e.getMessage());
-                        e.printStackTrace();
-                    }
-                } else {
-                    System.err.println("Invalid attendance row (expected 4 columns, found " + values.size() + "): " + line);
+                AttendanceRecord record = parseAttendanceLine(line, System.err::println);
+                if (record != null) {
+                    records.add(record);
                 }
             }
         } catch (IOException e) {
@@ -159,6 +152,100 @@ public class CSVHandler {
         return records;
     }
 
+    /**
+     * Reads attendance records from a CSV file through a memory-mapped view.
+     * Produces the same records as {@link #readAttendanceCSV(String)} but
+     * parses well-formed rows straight from the file bytes.
+     *
+     * @param filePath Path to the CSV file.
+     * @return List of AttendanceRecord objects.
+     */
+    public static List<AttendanceRecord> readAttendanceCSVMapped(String filePath) {
+        return MappedAttendanceReader.read(filePath);
+    }
+
+    /**
+     * Reads employee data from a CSV file, parsing chunks of the file in parallel.
+     *
+     * @param filePath Path to the CSV file.
+     * @return List of Employee objects in file order.
+     */
+    public static List<Employee> readEmployeesFromCSVParallel(String filePath) {
+        return ParallelCSVReader.read(filePath, "employee", ParallelCSVReader.EMPLOYEE_PARSER);
+    }
+
+    /**
+     * Reads attendance records from a CSV file, parsing chunks of the file in parallel.
+     *
+     * @param filePath Path to the CSV file.
+     * @return List of AttendanceRecord objects in file order.
+     */
+    public static List<AttendanceRecord> readAttendanceCSVParallel(String filePath) {
+        return ParallelCSVReader.read(filePath, "attendance", ParallelCSVReader.ATTENDANCE_PARSER);
+    }
+
+    /**
+     * Turns a fast-path date result into a LocalDate, handing text the fast path
+     * could not read to the formatter so odd layouts and error messages stay the same.
+     *
+     * @param text Trimmed date text.
+     * @param epochDay Result of the matching DateTimeParser method.
+     * @param formatter Formatter for the same layout.
+     * @return Parsed date.
+     * @throws DateTimeParseException If the formatter cannot parse the text either.
+     */
+    private static LocalDate parseDate(String text, int epochDay, DateTimeFormatter formatter) {
+        return DateTimeParser.isError(epochDay) ? LocalDate.parse(text, formatter) : LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Parses an H:mm time, using the formatter for text the fast path could not read.
+     *
+     * @param text Trimmed time text.
+     * @return Parsed time, or null if the text is empty.
+     * @throws DateTimeParseException If the formatter cannot parse the text either.
+     */
+    private static LocalTime parseTime(String text) {
+        int minuteOfDay = DateTimeParser.parseTime(text);
+        if (DateTimeParser.isError(minuteOfDay)) {
+            return LocalTime.parse(text, timeFormatter);
+        }
+        return MappedAttendanceReader.toLocalTime(minuteOfDay);
+    }
+
+    /**
+     * Parses a single attendance CSV line.
+     *
+     * @param line The CSV line to parse.
+     * @param errors Receiver for error messages.
+     * @return Parsed AttendanceRecord, or null if the line is invalid.
+     */
+    static AttendanceRecord parseAttendanceLine(String line, Consumer<String> errors) {
+        List<String> values = parseCSVLine(line);
+
+        if (values.size() >= 4) {
+            try {
+                int employeeNumber = Integer.parseInt(values.get(0).trim());
+                String dateStr = values.get(1).trim();
+                LocalDate date = parseDate(dateStr, DateTimeParser.parseAttendanceDate(dateStr), attendanceDateFormatter);
+                LocalTime timeIn = parseTime(values.get(2).trim());
+                LocalTime timeOut = parseTime(values.get(3).trim());
+
+                return new AttendanceRecord(employeeNumber, date, timeIn, timeOut);
+            } catch (DateTimeParseException e) {
+                errors.accept("Invalid date or time format in attendance line: " + line + ", Error: " + e.getMessage());
+            } catch (NumberFormatException e) {
+                errors.accept("Invalid employee number format in attendance line: " + line + ", Error: " + e.getMessage());
+            } catch (Exception e) {
+                errors.accept("Error parsing attendance line: " + line + ", Error: " + e.getMessage());
+                e.printStackTrace();
+            }
+        } else {
+            errors.accept("Invalid attendance row (expected 4 columns, found " + values.size() + "): " + line);
+        }
+        return null;
+    }
+
     /**
      * Writes attendance records to a CSV file.
      *
@@ -166,17 +253,19 @@ public class CSVHandler {
      * @param filePath Path to the CSV file.
      */
     public static void writeAttendanceToCSV(List<AttendanceRecord> records, String filePath) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            writer.write("EmployeeNumber,Date,TimeIn,TimeOut");
-            writer.newLine();
-            for (AttendanceRecord record : records) {
-                writer.write(String.format("%d,%s,%s,%s",
-                        record.getEmployeeNumber(),
-                        record.getDate().format(attendanceDateFormatter),
-                        record.getTimeIn() != null ? record.getTimeIn().format(timeFormatter) : "",
-                        record.getTimeOut() != null ? record.getTimeOut().format(timeFormatter) : ""));
+        try {
+            AtomicFileWriter.write(Path.of(filePath), writer -> {
+                writer.write("EmployeeNumber,Date,TimeIn,TimeOut");
                 writer.newLine();
-            }
+                for (AttendanceRecord record : records) {
+                    writer.write(String.format("%d,%s,%s,%s",
+                            record.getEmployeeNumber(),
+                            record.getDate().format(attendanceDateFormatter),
+                            record.getTimeIn() != null ? record.getTimeIn().format(timeFormatter) : "",
+                            record.getTimeOut() != null ? record.getTimeOut().format(timeFormatter) : ""));
+                    writer.newLine();
+                }
+            });
         } catch (IOException e) {
             System.err.println("Error writing attendance CSV: " + e.getMessage());
             e.printStackTrace();
@@ -184,54 +273,252 @@ public class CSVHandler {
     }
 
     /**
-     * Writes employee data to a CSV file.
+     * Writes attendance records held in an AttendanceStore to a CSV file.
      *
-     * @param employees List of employees.
+     * @param attendance Attendance store.
      * @param filePath Path to the CSV file.
      */
-    public static void writeEmployeesToCSV(List<Employee> employees, String filePath) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            writer.write("Employee Number,Last Name,First Name,Birthday,Address,Phone Number,SSS Number,Philhealth Number,TIN Number,Pag-ibig Number,Status,Position,Immediate Supervisor,Basic Salary,Rice Subsidy,Phone Allowance,Clothing Allowance,Semi-monthly Rate,Hourly Rate");
-            writer.newLine();
+    public static void writeAttendanceToCSV(AttendanceStore attendance, String filePath) {
+        try {
+            AtomicFileWriter.write(Path.of(filePath), writer -> writeAttendance(attendance, writer));
+            DataSnapshot.saveAttendance(attendance, filePath);
+        } catch (IOException e) {
+            System.err.println("Error writing attendance CSV: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
 
-            for (Employee emp : employees) {
-                CompensationDetails comp = emp.getCompensationDetails();
-                GovernmentDetails gov = emp.getGovernmentDetails();
-                writer.write(String.format("%d,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f",
-                        emp.getEmployeeNumber(),
-                        emp.getLastName(),
-                        emp.getFirstName(),
-                        emp.getBirthday().format(employeeDateFormatter),
-                        "",
-                        "",
-                        gov.getSssNumber(),
-                        gov.getPhilHealthNumber(),
-                        gov.getTinNumber(),
-                        gov.getPagIbigNumber(),
-                        emp.getStatus(),
-                        emp.getPosition(),
-                        "",
-                        comp.getBasicSalary(),
-                        comp.getRiceSubsidy(),
-                        comp.getPhoneAllowance(),
-                        comp.getClothingAllowance(),
-                        comp.getGrossSemiMonthlyRate(),
-                        comp.getHourlyRate()));
-                writer.newLine();
-            }
+    /**
+     * Stages the attendance CSV in a write batch instead of writing it right away.
+     *
+     * @param batch Write batch committed by the caller.
+     * @param attendance Attendance store, read when the batch is committed.
+     * @param filePath Path to the CSV file.
+     */
+    public static void stageAttendance(WriteBatch batch, AttendanceStore attendance, String filePath) {
+        batch.stage(filePath, writer -> writeAttendance(attendance, writer));
+        batch.afterCommit(() -> DataSnapshot.saveAttendance(attendance, filePath));
+    }
+
+    /**
+     * Writes the attendance CSV header and rows, leaving I/O errors to the caller.
+     *
+     * @param attendance Attendance store.
+     * @param writer Buffered writer for the CSV file.
+     * @throws IOException If the rows cannot be written.
+     */
+    static void writeAttendance(AttendanceStore attendance, BufferedWriter writer) throws IOException {
+        writeAttendanceHeader(writer);
+        char[] line = new char[ATTENDANCE_LINE_LENGTH];
+        for (int row = attendance.nextRow(0); row >= 0; row = attendance.nextRow(row + 1)) {
+            writeAttendanceRow(attendance, row, line, writer);
+        }
+    }
+
+    /**
+     * Writes the attendance CSV header line.
+     *
+     * @param writer Buffered writer for the CSV file.
+     * @throws IOException If the header cannot be written.
+     */
+    static void writeAttendanceHeader(BufferedWriter writer) throws IOException {
+        writer.write("EmployeeNumber,Date,TimeIn,TimeOut");
+        writer.newLine();
+    }
+
+    /**
+     * Writes one attendance row as a CSV line, formatting the store's columns digit by digit
+     * into a reusable buffer instead of through String.format and java.time formatters.
+     *
+     * @param attendance Attendance store.
+     * @param row Row index.
+     * @param line Scratch buffer of at least {@link #ATTENDANCE_LINE_LENGTH} chars.
+     * @param writer Buffered writer for the CSV file.
+     * @throws IOException If the line cannot be written.
+     */
+    static void writeAttendanceRow(AttendanceStore attendance, int row, char[] line, BufferedWriter writer)
+            throws IOException {
+        int length = formatInt(line, 0, attendance.getEmployeeNumber(row));
+        line[length++] = ',';
+        length = formatDate(line, length, attendance.getEpochDay(row));
+        line[length++] = ',';
+        length = formatTime(line, length, attendance.getMinuteIn(row));
+        line[length++] = ',';
+        length = formatTime(line, length, attendance.getMinuteOut(row));
+        writer.write(line, 0, length);
+        writer.newLine();
+    }
+
+    private static int formatInt(char[] line, int at, int value) {
+        long remaining = value;
+        if (remaining < 0) {
+            line[at++] = '-';
+            remaining = -remaining;
+        }
+        int end = at;
+        for (long rest = remaining; rest >= 10; rest /= 10) {
+            end++;
+        }
+        for (int i = end; i >= at; i--) {
+            line[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        return end + 1;
+    }
+
+    /**
+     * Formats an epoch day like {@code attendanceDateFormatter}, converting it to year, month
+     * and day with the proleptic Gregorian calendar arithmetic LocalDate.ofEpochDay uses.
+     */
+    private static int formatDate(char[] line, int at, int epochDay) {
+        long z = epochDay + 719_468L;
+        long era = Math.floorDiv(z, 146_097);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 1 || year > 9999) {
+            String date = LocalDate.ofEpochDay(epochDay).format(attendanceDateFormatter);
+            date.getChars(0, date.length(), line, at);
+            return at + date.length();
+        }
+        line[at] = (char) ('0' + month / 10);
+        line[at + 1] = (char) ('0' + month % 10);
+        line[at + 2] = '/';
+        line[at + 3] = (char) ('0' + day / 10);
+        line[at + 4] = (char) ('0' + day % 10);
+        line[at + 5] = '/';
+        for (int i = at + 9; i >= at + 6; i--) {
+            line[i] = (char) ('0' + year % 10);
+            year /= 10;
+        }
+        return at + 10;
+    }
+
+    /**
+     * Formats a minute of the day like {@code timeFormatter}, or nothing for a missing punch.
+     */
+    private static int formatTime(char[] line, int at, int minuteOfDay) {
+        if (minuteOfDay < 0) {
+            return at;
+        }
+        int hour = minuteOfDay / 60;
+        int minute = minuteOfDay % 60;
+        if (hour >= 10) {
+            line[at++] = (char) ('0' + hour / 10);
+        }
+        line[at++] = (char) ('0' + hour % 10);
+        line[at++] = ':';
+        line[at++] = (char) ('0' + minute / 10);
+        line[at++] = (char) ('0' + minute % 10);
+        return at;
+    }
+
+    /**
+     * Reads the attendance of a range of months from a partitioned attendance directory.
+     * Only the partitions for those months are opened.
+     *
+     * @param directory Directory holding the partitions and their manifest.
+     * @param from First month to read.
+     * @param to Last month to read.
+     * @return AttendanceStore holding every valid row of the months.
+     */
+    public static AttendanceStore readAttendancePartitions(String directory, YearMonth from, YearMonth to) {
+        return AttendancePartitions.open(Path.of(directory)).load(from, to);
+    }
+
+    /**
+     * Writes attendance records to a partitioned attendance directory, one file per month.
+     * Closed months are left as they are.
+     *
+     * @param attendance Attendance store.
+     * @param directory Directory holding the partitions and their manifest.
+     */
+    public static void writeAttendancePartitions(AttendanceStore attendance, String directory) {
+        try {
+            AttendancePartitions.open(Path.of(directory)).write(attendance);
+        } catch (IOException e) {
+            System.err.println("Error writing attendance partitions: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes employee data to a CSV file.
+     *
+     * @param employees Employees in the order to write, such as a List or EmployeeRepository.
+     * @param filePath Path to the CSV file.
+     */
+    public static void writeEmployeesToCSV(Iterable<Employee> employees, String filePath) {
+        try {
+            AtomicFileWriter.write(Path.of(filePath), writer -> writeEmployees(employees, writer));
+            DataSnapshot.saveEmployees(employees, filePath);
         } catch (IOException e) {
             System.err.println("Error writing employee CSV: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
+    /**
+     * Stages the employee CSV in a write batch instead of writing it right away.
+     *
+     * @param batch Write batch committed by the caller.
+     * @param employees Employees in the order to write, read when the batch is committed.
+     * @param filePath Path to the CSV file.
+     */
+    public static void stageEmployees(WriteBatch batch, Iterable<Employee> employees, String filePath) {
+        batch.stage(filePath, writer -> writeEmployees(employees, writer));
+        batch.afterCommit(() -> DataSnapshot.saveEmployees(employees, filePath));
+    }
+
+    /**
+     * Writes the employee CSV header and rows, leaving I/O errors to the caller.
+     *
+     * @param employees Employees in the order to write.
+     * @param writer Buffered writer for the CSV file.
+     * @throws IOException If the rows cannot be written.
+     */
+    static void writeEmployees(Iterable<Employee> employees, BufferedWriter writer) throws IOException {
+        writer.write("Employee Number,Last Name,First Name,Birthday,Address,Phone Number,SSS Number,Philhealth Number,TIN Number,Pag-ibig Number,Status,Position,Immediate Supervisor,Basic Salary,Rice Subsidy,Phone Allowance,Clothing Allowance,Semi-monthly Rate,Hourly Rate");
+        writer.newLine();
+
+        for (Employee emp : employees) {
+            CompensationDetails comp = emp.getCompensationDetails();
+            GovernmentDetails gov = emp.getGovernmentDetails();
+            writer.write(String.format("%d,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f",
+                    emp.getEmployeeNumber(),
+                    emp.getLastName(),
+                    emp.getFirstName(),
+                    emp.getBirthday().format(employeeDateFormatter),
+                    "",
+                    "",
+                    gov.getSssNumber(),
+                    gov.getPhilHealthNumber(),
+                    gov.getTinNumber(),
+                    gov.getPagIbigNumber(),
+                    emp.getStatus(),
+                    emp.getPosition(),
+                    "",
+                    comp.getBasicSalary(),
+                    comp.getRiceSubsidy(),
+                    comp.getPhoneAllowance(),
+                    comp.getClothingAllowance(),
+                    comp.getGrossSemiMonthlyRate(),
+                    comp.getHourlyRate()));
+            writer.newLine();
+        }
+    }
+
     /**
      * Parses a CSV line into a list of values.
      *
      * @param line The CSV line to parse.
      * @return List of parsed values.
      */
-    private static List<String> parseCSVLine(String line) {
+    static List<String> parseCSVLine(String line) {
         List<String> tokens = new ArrayList<>();
         boolean inQuotes = false;
         StringBuilder sb = new StringBuilder();
@@ -6,24 +6,23 @@
 package com.group11.cp2.motorphapp;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.event.ActionListener;
 import java.util.List;
 
 public class Dashboard extends javax.swing.JFrame {
 
     private List<User> users;
-    private List<Employee> employees;
-    private List<AttendanceRecord> attendance;
+    private EmployeeRepository employees;
+    private AttendanceStore attendance;
 
     /**
      * Creates a new Dashboard with required data.
      *
      * @param users List of users.
-     * @param employees List of employees.
-     * @param attendance List of attendance records.
+     * @param employees Employee repository.
+     * @param attendance Attendance store.
      */
-    public Dashboard(List<User> users, List<Employee> employees, List<AttendanceRecord> attendance) {
+    public Dashboard(List<User> users, EmployeeRepository employees, AttendanceStore attendance) {
         this.users = users;
         this.employees = employees;
         this.attendance = attendance;
@@ -364,7 +363,9 @@ private void initializeDashboard() {
             jButton26.setBounds(1110, 950, 100, 30); // Delete
             jButton9.setBounds(1660, 950, 120, 30); // Back to Menu
 
-            // Configure jTable4
+            // Configure jTable4 over the employee repository; rows are read on demand
+            EmployeeTableModel tableModel = new EmployeeTableModel(employees);
+            jTable4.setModel(tableModel);
             jTable4.setRowSelectionAllowed(true);
             jTable4.setAutoResizeMode(JTable.AUTO_RESIZE_ALL_COLUMNS);
             jTable4.getColumnModel().getSelectionModel().setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -378,22 +379,6 @@ private void initializeDashboard() {
                 jTable4.getColumnModel().getColumn(6).setPreferredWidth(120);
             }
 
-            // Populate jTable4 from in-memory employees list
-            DefaultTableModel tableModel = (DefaultTableModel) jTable4.getModel();
-            tableModel.setRowCount(0);
-            for (Employee emp : employees) {
-                GovernmentDetails gov = emp.getGovernmentDetails();
-                tableModel.addRow(new Object[]{
-                        emp.getEmployeeNumber(),
-                        emp.getLastName(),
-                        emp.getFirstName(),
-                        gov != null ? gov.getSssNumber() : "N/A",
-                        gov != null ? gov.getPhilHealthNumber() : "N/A",
-                        gov != null ? gov.getTinNumber() : "N/A",
-                        gov != null ? gov.getPagIbigNumber() : "N/A"
-                });
-            }
-
             // Enable buttons and set text field properties
             jButton6.setEnabled(true);
             jButton7.setEnabled(true);
@@ -458,27 +443,6 @@ private void initializeDashboard() {
                     NewEmployeeRecord addFrame = new NewEmployeeRecord(employees, tableModel);
                     addFrame.setLocationRelativeTo(this);
                     addFrame.setVisible(true);
-                    addFrame.addWindowListener(new java.awt.event.WindowAdapter() {
-                        @Override
-                        public void windowClosed(java.awt.event.WindowEvent windowEvent) {
-                            // Refresh table after NewEmployeeRecord closes
-                            tableModel.setRowCount(0);
-                            for (Employee emp : employees) {
-                                GovernmentDetails gov = emp.getGovernmentDetails();
-                                tableModel.addRow(new Object[]{
-                                        emp.getEmployeeNumber(),
-                                        emp.getLastName(),
-                                        emp.getFirstName(),
-                                        gov != null ? gov.getSssNumber() : "N/A",
-                                        gov != null ? gov.getPhilHealthNumber() : "N/A",
-                                        gov != null ? gov.getTinNumber() : "N/A",
-                                        gov != null ? gov.getPagIbigNumber() : "N/A"
-                                });
-                            }
-                            jTable4.revalidate();
-                            jTable4.repaint();
-                        }
-                    });
                 } catch (Exception ex) {
                     JOptionPane.showMessageDialog(this, "Error opening add form: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
                 }
@@ -489,10 +453,7 @@ private void initializeDashboard() {
                 int selectedRow = jTable4.getSelectedRow();
                 if (selectedRow >= 0) {
                     int empNumber = Integer.parseInt(tableModel.getValueAt(selectedRow, 0).toString());
-                    Employee emp = employees.stream()
-                            .filter(employee -> employee.getEmployeeNumber() == empNumber)
-                            .findFirst()
-                            .orElse(null);
+                    Employee emp = employees.get(empNumber);
                     if (emp != null) {
                         System.out.println("Calling PayrollFrame for Employee: " + emp.getEmployeeNumber() + ", " + emp.getLastName());
                         System.out.println("Attendance records: " + (attendance != null ? attendance.size() : "null"));
@@ -529,10 +490,7 @@ private void initializeDashboard() {
                         }
 
                         int empNumber = Integer.parseInt(empNumberText);
-                        Employee emp = employees.stream()
-                                .filter(employee -> employee.getEmployeeNumber() == empNumber)
-                                .findFirst()
-                                .orElse(null);
+                        Employee emp = employees.get(empNumber);
                         if (emp == null) {
                             JOptionPane.showMessageDialog(this, "Employee not found.", "Error", JOptionPane.ERROR_MESSAGE);
                             return;
@@ -566,12 +524,7 @@ private void initializeDashboard() {
                             user.setUsername(firstName.toLowerCase() + empNumber);
                         }
 
-                        tableModel.setValueAt(lastName, selectedRow, 1);
-                        tableModel.setValueAt(firstName, selectedRow, 2);
-                        tableModel.setValueAt(sssNumber, selectedRow, 3);
-                        tableModel.setValueAt(philHealthNumber, selectedRow, 4);
-                        tableModel.setValueAt(tinNumber, selectedRow, 5);
-                        tableModel.setValueAt(pagIbigNumber, selectedRow, 6);
+                        tableModel.employeeUpdated(selectedRow);
 
                         CSVHandler.writeEmployeesToCSV(employees, "src/main/resources/employeedata.csv");
                         JOptionPane.showMessageDialog(this, "Employee updated!", "Success", JOptionPane.INFORMATION_MESSAGE);
@@ -596,17 +549,16 @@ private void initializeDashboard() {
                         int empNumber = Integer.parseInt(tableModel.getValueAt(selectedRow, 0).toString());
                         int confirm = JOptionPane.showConfirmDialog(this, "Delete employee #" + empNumber + "?", "Confirm Deletion", JOptionPane.YES_NO_OPTION);
                         if (confirm == JOptionPane.YES_OPTION) {
-                            Employee emp = employees.stream()
-                                    .filter(employee -> employee.getEmployeeNumber() == empNumber)
-                                    .findFirst()
-                                    .orElse(null);
+                            Employee emp = employees.get(empNumber);
                             if (emp != null) {
-                                employees.remove(emp);
                                 users.removeIf(user -> user.getEmployee() != null && user.getEmployee().getEmployeeNumber() == empNumber);
-                                attendance.removeIf(record -> record.getEmployeeNumber() == empNumber);
-                                tableModel.removeRow(selectedRow);
-                                CSVHandler.writeEmployeesToCSV(employees, "src/main/resources/employeedata.csv");
-                                CSVHandler.writeAttendanceToCSV(attendance, "src/main/resources/attendancerecord.csv");
+                                attendance.removeEmployee(empNumber);
+                                MotorPHApp.getPayrollCache().invalidateEmployee(empNumber);
+                                tableModel.removeEmployeeAt(selectedRow);
+                                WriteBatch batch = new WriteBatch();
+                                CSVHandler.stageEmployees(batch, employees, "src/main/resources/employeedata.csv");
+                                saveAttendanceRemoval(empNumber, batch);
+                                batch.commit();
                                 jTextField8.setText("");
                                 jTextField9.setText("");
                                 jTextField10.setText("");
@@ -650,6 +602,37 @@ private void initializeDashboard() {
         setVisible(true);
     }
 
+    /**
+     * Persists the removal of an employee's attendance by rewriting the changed months when
+     * attendance is partitioned, or else by appending it to the journal, falling back to
+     * staging a rewrite of the attendance CSV if there is no journal.
+     *
+     * @param empNumber Employee's unique ID.
+     * @param batch Write batch that receives the CSV rewrite if it is needed.
+     */
+    private void saveAttendanceRemoval(int empNumber, WriteBatch batch) {
+        AttendancePartitions partitions = MotorPHApp.getAttendancePartitions();
+        if (partitions != null) {
+            try {
+                partitions.write(attendance);
+            } catch (java.io.IOException e) {
+                System.err.println("Error writing attendance partitions: " + e.getMessage());
+            }
+            return;
+        }
+        AttendanceJournal journal = MotorPHApp.getAttendanceJournal();
+        if (journal != null) {
+            try {
+                journal.appendRemoveEmployee(empNumber);
+                journal.compactIfNeeded();
+                return;
+            } catch (java.io.IOException e) {
+                System.err.println("Error writing attendance journal: " + e.getMessage());
+            }
+        }
+        CSVHandler.stageAttendance(batch, attendance, "src/main/resources/attendancerecord.csv");
+    }
+
     private void jButton9ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_jButton9ActionPerformed
         // TODO add your handling code here:
     }//GEN-LAST:event_jButton9ActionPerformed
@@ -0,0 +1,353 @@
+/**
+ * Binary snapshots of loaded CSV data for fast starts of the MotorPH Payroll System.
+ *
+ * Each CSV gets a {@code .snapshot} file next to it holding the parsed data: employees
+ * as plain fields, attendance as the store's columns with regular and overtime minutes
+ * already computed. A snapshot records the size, modified time and CRC-32 of the CSV
+ * it was taken from and is only used while the CSV still matches; otherwise the CSV is
+ * parsed again and a fresh snapshot is written. The CSV remains the file to edit and share.
+ *
+ * Layout, big-endian: magic, version, kind, source size, source modified time,
+ * source CRC-32, payload CRC-32, payload length, payload.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+public final class DataSnapshot {
+    /** Suffix of the snapshot file written next to a CSV. */
+    public static final String SUFFIX = ".snapshot";
+
+    private static final int MAGIC = 0x4D505331; // "MPS1"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 4 + 8 + 8 + 8 + 8 + 8;
+
+    private static final int KIND_EMPLOYEES = 1;
+    private static final int KIND_ATTENDANCE = 2;
+
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private DataSnapshot() {
+    }
+
+    /**
+     * Loads employees from the snapshot of an employee CSV.
+     *
+     * @param csvPath Path to the employee CSV file.
+     * @return Employees in file order, or null if there is no snapshot matching the CSV.
+     */
+    public static List<Employee> loadEmployees(String csvPath) {
+        ByteBuffer payload = openPayload(Path.of(csvPath), KIND_EMPLOYEES);
+        if (payload == null) {
+            return null;
+        }
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int count = in.readInt();
+            List<Employee> employees = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                employees.add(readEmployee(in));
+            }
+            return employees;
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable employee snapshot: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Loads attendance from the snapshot of an attendance CSV.
+     *
+     * @param csvPath Path to the attendance CSV file.
+     * @return AttendanceStore, or null if there is no snapshot matching the CSV.
+     */
+    public static AttendanceStore loadAttendance(String csvPath) {
+        ByteBuffer payload = openPayload(Path.of(csvPath), KIND_ATTENDANCE);
+        if (payload == null) {
+            return null;
+        }
+        int rows = payload.getInt();
+        if (rows < 0 || payload.remaining() != (long) rows * (4 + 4 + 2 + 2 + 2 + 2)) {
+            System.err.println("Ignoring attendance snapshot with a bad row count");
+            return null;
+        }
+        // Leave room to add rows without growing straight away
+        int capacity = Math.max(rows, 16);
+        int[] employeeNumbers = new int[capacity];
+        int[] epochDays = new int[capacity];
+        short[] minutesIn = new short[capacity];
+        short[] minutesOut = new short[capacity];
+        short[] regularMinutes = new short[capacity];
+        short[] overtimeMinutes = new short[capacity];
+        readInts(payload, employeeNumbers, rows);
+        readInts(payload, epochDays, rows);
+        readShorts(payload, minutesIn, rows);
+        readShorts(payload, minutesOut, rows);
+        readShorts(payload, regularMinutes, rows);
+        readShorts(payload, overtimeMinutes, rows);
+        return AttendanceStore.fromColumns(rows, employeeNumbers, epochDays,
+                minutesIn, minutesOut, regularMinutes, overtimeMinutes);
+    }
+
+    private static void readInts(ByteBuffer payload, int[] column, int rows) {
+        payload.asIntBuffer().get(column, 0, rows);
+        payload.position(payload.position() + rows * 4);
+    }
+
+    private static void readShorts(ByteBuffer payload, short[] column, int rows) {
+        payload.asShortBuffer().get(column, 0, rows);
+        payload.position(payload.position() + rows * 2);
+    }
+
+    /**
+     * Maps a snapshot and checks it against its CSV.
+     *
+     * @return Payload positioned at its start, or null if the snapshot is missing, damaged or stale.
+     */
+    private static ByteBuffer openPayload(Path csv, int kind) {
+        Path snapshot = snapshotPath(csv);
+        if (!Files.isRegularFile(snapshot) || !Files.isRegularFile(csv)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getInt() != kind) {
+                return null;
+            }
+            long sourceSize = buffer.getLong();
+            long sourceModified = buffer.getLong();
+            long sourceCrc = buffer.getLong();
+            long payloadCrc = buffer.getLong();
+            long payloadLength = buffer.getLong();
+            if (payloadLength != buffer.remaining()) {
+                return null;
+            }
+
+            // A matching modified time is enough; a touched but unchanged CSV is confirmed by its checksum
+            if (Files.size(csv) != sourceSize) {
+                return null;
+            }
+            if (Files.getLastModifiedTime(csv).toMillis() != sourceModified && checksum(csv) != sourceCrc) {
+                return null;
+            }
+
+            ByteBuffer payload = buffer.slice();
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if (crc.getValue() != payloadCrc) {
+                System.err.println("Ignoring damaged snapshot: " + snapshot.getFileName());
+                return null;
+            }
+            return payload;
+        } catch (IOException e) {
+            System.err.println("Error reading snapshot " + snapshot.getFileName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the snapshot of an employee CSV. Errors are reported and otherwise ignored,
+     * since the CSV can always be parsed again.
+     *
+     * @param employees Employees as they were written to or read from the CSV.
+     * @param csvPath Path to the employee CSV file.
+     */
+    public static void saveEmployees(Iterable<Employee> employees, String csvPath) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            int count = 0;
+            for (Employee ignored : employees) {
+                count++;
+            }
+            out.writeInt(count);
+            for (Employee employee : employees) {
+                writeEmployee(out, employee);
+            }
+            out.flush();
+            byte[] payload = bytes.toByteArray();
+            write(Path.of(csvPath), KIND_EMPLOYEES, payload.length, buffer -> buffer.put(payload));
+        } catch (IOException e) {
+            System.err.println("Error writing employee snapshot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the snapshot of an attendance CSV. Errors are reported and otherwise ignored,
+     * since the CSV can always be parsed again.
+     *
+     * @param attendance Attendance as it was written to or read from the CSV.
+     * @param csvPath Path to the attendance CSV file.
+     */
+    public static void saveAttendance(AttendanceStore attendance, String csvPath) {
+        int rows = attendance.size();
+        long payloadLength = 4 + (long) rows * (4 + 4 + 2 + 2 + 2 + 2);
+        try {
+            write(Path.of(csvPath), KIND_ATTENDANCE, payloadLength, buffer -> {
+                buffer.putInt(rows);
+                // Column by column, skipping removed rows, so the reader can bulk-copy each column
+                for (int row = attendance.nextRow(0); row >= 0; row = attendance.nextRow(row + 1)) {
+                    buffer.putInt(attendance.getEmployeeNumber(row));
+                }
+                for (int row = attendance.nextRow(0); row >= 0; row = attendance.nextRow(row + 1)) {
+                    buffer.putInt(attendance.getEpochDay(row));
+                }
+                for (int row = attendance.nextRow(0); row >= 0; row = attendance.nextRow(row + 1)) {
+                    buffer.putShort((short) attendance.getMinuteIn(row));
+                }
+                for (int row = attendance.nextRow(0); row >= 0; row = attendance.nextRow(row + 1)) {
+                    buffer.putShort((short) attendance.getMinuteOut(row));
+                }
+                for (int row = attendance.nextRow(0); row >= 0; row = attendance.nextRow(row + 1)) {
+                    buffer.putShort((short) attendance.getRegularMinutes(row));
+                }
+                for (int row = attendance.nextRow(0); row >= 0; row = attendance.nextRow(row + 1)) {
+                    buffer.putShort((short) attendance.getOvertimeMinutes(row));
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("Error writing attendance snapshot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Fills a mapped payload buffer.
+     */
+    @FunctionalInterface
+    private interface PayloadWriter {
+        void writeTo(MappedByteBuffer buffer);
+    }
+
+    /**
+     * Writes a snapshot to a temp file and moves it into place. It is not forced to disk:
+     * a snapshot torn by a crash fails its payload checksum and the CSV is parsed instead.
+     */
+    private static void write(Path csv, int kind, long payloadLength, PayloadWriter payloadWriter) throws IOException {
+        Path snapshot = snapshotPath(csv);
+        Path temp = AtomicFileWriter.tempPath(snapshot);
+        long sourceSize = Files.size(csv);
+        long sourceModified = Files.getLastModifiedTime(csv).toMillis();
+        long sourceCrc = checksum(csv);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + payloadLength);
+            buffer.position(HEADER_SIZE);
+            payloadWriter.writeTo(buffer);
+            if (buffer.hasRemaining()) {
+                throw new IOException("snapshot data changed while it was written");
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(HEADER_SIZE, (int) payloadLength));
+            buffer.position(0);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(kind)
+                    .putLong(sourceSize).putLong(sourceModified).putLong(sourceCrc)
+                    .putLong(crc.getValue()).putLong(payloadLength);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e instanceof IOException ? (IOException) e : new IOException(e);
+        }
+        AtomicFileWriter.moveIntoPlace(temp, snapshot);
+    }
+
+    private static long checksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += Integer.MAX_VALUE) {
+                crc.update(channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(Integer.MAX_VALUE, size - position)));
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Gets the snapshot file of a CSV.
+     *
+     * @param csv Path to the CSV file.
+     * @return Path of the snapshot next to the CSV.
+     */
+    public static Path snapshotPath(Path csv) {
+        return csv.resolveSibling(csv.getFileName() + SUFFIX);
+    }
+
+    private static void writeEmployee(DataOutputStream out, Employee employee) throws IOException {
+        out.writeInt(employee.getEmployeeNumber());
+        writeString(out, employee.getLastName());
+        writeString(out, employee.getFirstName());
+        out.writeLong(employee.getBirthday() != null ? employee.getBirthday().toEpochDay() : NO_DATE);
+        writeString(out, employee.getPosition());
+        writeString(out, employee.getStatus());
+
+        CompensationDetails comp = employee.getCompensationDetails();
+        out.writeBoolean(comp != null);
+        if (comp != null) {
+            out.writeDouble(comp.getBasicSalary());
+            out.writeDouble(comp.getRiceSubsidy());
+            out.writeDouble(comp.getPhoneAllowance());
+            out.writeDouble(comp.getClothingAllowance());
+            out.writeDouble(comp.getGrossSemiMonthlyRate());
+            out.writeDouble(comp.getHourlyRate());
+        }
+
+        GovernmentDetails gov = employee.getGovernmentDetails();
+        out.writeBoolean(gov != null);
+        if (gov != null) {
+            writeString(out, gov.getSssNumber());
+            writeString(out, gov.getPhilHealthNumber());
+            writeString(out, gov.getTinNumber());
+            writeString(out, gov.getPagIbigNumber());
+        }
+    }
+
+    private static Employee readEmployee(DataInputStream in) throws IOException {
+        int employeeNumber = in.readInt();
+        String lastName = readString(in);
+        String firstName = readString(in);
+        long birthday = in.readLong();
+        String position = readString(in);
+        String status = readString(in);
+        CompensationDetails comp = in.readBoolean()
+                ? new CompensationDetails(in.readDouble(), in.readDouble(), in.readDouble(),
+                        in.readDouble(), in.readDouble(), in.readDouble())
+                : null;
+        GovernmentDetails gov = in.readBoolean()
+                ? new GovernmentDetails(readString(in), readString(in), readString(in), readString(in))
+                : null;
+        return new Employee(employeeNumber, lastName, firstName,
+                birthday != NO_DATE ? LocalDate.ofEpochDay(birthday) : null,
+                position, status, comp, gov);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
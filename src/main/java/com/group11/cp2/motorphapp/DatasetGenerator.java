@@ -0,0 +1,439 @@
+/**
+ * Generates synthetic employee and attendance CSV files for scale testing the MotorPH Payroll System.
+ *
+ * The files use the same layouts as employeedata.csv and attendancerecord.csv and are
+ * written row by row, so their size is limited only by disk space. The same seed and
+ * settings always produce the same files.
+ *
+ * Usage: DatasetGenerator [--option=value ...]
+ *   --out=DIR              Output directory (target/generated-data)
+ *   --seed=N               Random seed (11)
+ *   --employees=N          Headcount (36)
+ *   --from=yyyy-MM-dd      First attendance date (2024-06-01)
+ *   --to=yyyy-MM-dd        Last attendance date (2024-12-31)
+ *   --late-rate=P          Share of days an employee is late (0.2)
+ *   --late-minutes=M       Mean minutes late on late days (25)
+ *   --overtime-rate=P      Share of on-time days with overtime (0.3)
+ *   --overtime-minutes=M   Mean overtime minutes on overtime days (60)
+ *   --missing-punch-rate=P Share of attendance rows missing a punch (0.005)
+ *   --malformed-rate=P     Share of rows in either file that are malformed (0)
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.SplittableRandom;
+
+public class DatasetGenerator {
+    /** Employee number of the first generated employee. */
+    public static final int FIRST_EMPLOYEE_NUMBER = 10001;
+
+    private static final String EMPLOYEE_HEADER = "Employee Number,Last Name,First Name,Birthday,Address,Phone Number,SSS Number,Philhealth Number,TIN Number,Pag-ibig Number,Status,Position,Immediate Supervisor,Basic Salary,Rice Subsidy,Phone Allowance,Clothing Allowance,Semi-monthly Rate,Hourly Rate";
+    private static final String ATTENDANCE_HEADER = "EmployeeNumber,Date,TimeIn,TimeOut";
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private static final String[] LAST_NAMES = {
+        "Garcia", "Lim", "Aquino", "Reyes", "Hernandez", "Villanueva", "San Jose", "Romualdez",
+        "Atienza", "Alvaro", "Salcedo", "Lopez", "Farala", "Martinez", "Mata", "De Leon",
+        "Rosario", "Bautista", "Lazaro", "Delos Santos", "Santos", "Del Rosario", "Tolentino",
+        "Gutierrez", "Manalaysay", "Villegas", "Ramos", "Maceda", "Aguilar", "Castro"
+    };
+    private static final String[] FIRST_NAMES = {
+        "Manuel", "Antonio", "Bianca Sofia", "Isabella", "Eduard", "Andrea Mae", "Brad", "Alice",
+        "Rosie", "Roderick", "Anthony", "Josie", "Martha", "Leila", "Fredrick", "Christian",
+        "Selena", "Allison", "Cydney", "Mark", "Darlene", "Kolby", "Vella", "Tomas", "Jacklyn",
+        "Percival", "Garfield", "Lizeth", "Carol", "Emelia", "Delia", "John Rafael", "Beatriz"
+    };
+
+    /** Pay grades seen in the bundled data: share of headcount, salary range, allowances and positions. */
+    private static final Grade[] GRADES = {
+        new Grade(0.80, 22500, 24750, 500, 500, "Account Rank and File", "HR Rank and File", "Payroll Rank and File"),
+        new Grade(0.12, 38475, 42975, 800, 800, "Account Team Leader", "HR Team Leader", "Payroll Team Leader"),
+        new Grade(0.07, 50825, 53500, 1000, 1000, "Account Manager", "HR Manager", "Payroll Manager",
+                "Accounting Head", "Sales & Marketing", "Supply Chain and Logistics",
+                "IT Operations and Systems", "Customer Service and Relations"),
+        new Grade(0.01, 60000, 90000, 2000, 1000, "Chief Operating Officer", "Chief Finance Officer",
+                "Chief Marketing Officer")
+    };
+    private static final double RICE_SUBSIDY = 1500.0;
+
+    private final long seed;
+    private int employees = 36;
+    private LocalDate firstDate = LocalDate.of(2024, 6, 1);
+    private LocalDate lastDate = LocalDate.of(2024, 12, 31);
+    private double lateRate = 0.2;
+    private double meanLateMinutes = 25;
+    private double overtimeRate = 0.3;
+    private double meanOvertimeMinutes = 60;
+    private double missingPunchRate = 0.005;
+    private double malformedRate = 0;
+
+    private static final class Grade {
+        final double share;
+        final int minSalary;
+        final int maxSalary;
+        final double phoneAllowance;
+        final double clothingAllowance;
+        final String[] positions;
+
+        Grade(double share, int minSalary, int maxSalary, double phoneAllowance, double clothingAllowance, String... positions) {
+            this.share = share;
+            this.minSalary = minSalary;
+            this.maxSalary = maxSalary;
+            this.phoneAllowance = phoneAllowance;
+            this.clothingAllowance = clothingAllowance;
+            this.positions = positions;
+        }
+    }
+
+    /**
+     * Creates a generator with the default settings.
+     *
+     * @param seed Random seed; the same seed and settings give the same files.
+     */
+    public DatasetGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public void setEmployees(int employees) { this.employees = employees; }
+    public void setFirstDate(LocalDate firstDate) { this.firstDate = firstDate; }
+    public void setLastDate(LocalDate lastDate) { this.lastDate = lastDate; }
+    public void setLateRate(double lateRate) { this.lateRate = lateRate; }
+    public void setMeanLateMinutes(double meanLateMinutes) { this.meanLateMinutes = meanLateMinutes; }
+    public void setOvertimeRate(double overtimeRate) { this.overtimeRate = overtimeRate; }
+    public void setMeanOvertimeMinutes(double meanOvertimeMinutes) { this.meanOvertimeMinutes = meanOvertimeMinutes; }
+    public void setMissingPunchRate(double missingPunchRate) { this.missingPunchRate = missingPunchRate; }
+    public void setMalformedRate(double malformedRate) { this.malformedRate = malformedRate; }
+
+    /**
+     * Writes the employee CSV file.
+     *
+     * @param file Path of the file to create or replace.
+     * @return Number of data rows written.
+     * @throws IOException If the file cannot be written.
+     */
+    public long writeEmployees(Path file) throws IOException {
+        try (Writer writer = open(file)) {
+            return writeEmployees(writer);
+        }
+    }
+
+    /**
+     * Writes the attendance CSV file.
+     *
+     * @param file Path of the file to create or replace.
+     * @return Number of data rows written.
+     * @throws IOException If the file cannot be written.
+     */
+    public long writeAttendance(Path file) throws IOException {
+        try (Writer writer = open(file)) {
+            return writeAttendance(writer);
+        }
+    }
+
+    private static Writer open(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.US_ASCII),
+                WRITE_BUFFER_SIZE);
+    }
+
+    /**
+     * Writes employee CSV rows, header first, numbered from {@link #FIRST_EMPLOYEE_NUMBER}.
+     *
+     * @param writer Destination; not closed.
+     * @return Number of data rows written.
+     * @throws IOException If the rows cannot be written.
+     */
+    public long writeEmployees(Writer writer) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder line = new StringBuilder(256);
+        char[] chars = new char[256];
+        writer.write(EMPLOYEE_HEADER);
+        writer.write('\n');
+        for (int i = 0; i < employees; i++) {
+            line.setLength(0);
+            appendEmployee(line, FIRST_EMPLOYEE_NUMBER + i, random);
+            if (random.nextDouble() < malformedRate) {
+                malformEmployee(line, random);
+            }
+            line.append('\n');
+            chars = write(writer, line, chars);
+        }
+        return employees;
+    }
+
+    /**
+     * Copies a line to the writer through a reused buffer instead of a new String per line.
+     *
+     * @return The buffer, grown if the line did not fit.
+     */
+    private static char[] write(Writer writer, StringBuilder line, char[] chars) throws IOException {
+        int length = line.length();
+        if (length > chars.length) {
+            chars = new char[length];
+        }
+        line.getChars(0, length, chars, 0);
+        writer.write(chars, 0, length);
+        return chars;
+    }
+
+    private void appendEmployee(StringBuilder line, int employeeNumber, SplittableRandom random) {
+        Grade grade = pickGrade(random);
+        int steps = (grade.maxSalary - grade.minSalary) / 25;
+        double basicSalary = grade.minSalary + 25.0 * random.nextInt(steps + 1);
+        LocalDate birthday = LocalDate.ofEpochDay(random.nextLong(
+                LocalDate.of(1960, 1, 1).toEpochDay(), LocalDate.of(2004, 1, 1).toEpochDay()));
+
+        line.append(employeeNumber).append(',')
+                .append(LAST_NAMES[random.nextInt(LAST_NAMES.length)]).append(',')
+                .append(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]).append(',')
+                .append(birthday.getMonthValue()).append('/').append(birthday.getDayOfMonth()).append('/')
+                .append(birthday.getYear()).append(",,,");
+        appendDigits(line, random, 2).append('-');
+        appendDigits(line, random, 7).append('-');
+        appendDigits(line, random, 1).append(',');
+        appendDigits(line, random, 12).append(',');
+        appendDigits(line, random, 3).append('-');
+        appendDigits(line, random, 3).append('-');
+        appendDigits(line, random, 3).append("-000,");
+        appendDigits(line, random, 12).append(',')
+                .append(random.nextDouble() < 0.7 ? "Regular" : "Probationary").append(',')
+                .append(grade.positions[random.nextInt(grade.positions.length)]).append(",,");
+        appendAmount(line, basicSalary).append(',');
+        appendAmount(line, RICE_SUBSIDY).append(',');
+        appendAmount(line, grade.phoneAllowance).append(',');
+        appendAmount(line, grade.clothingAllowance).append(',');
+        appendAmount(line, Math.round(basicSalary / 2)).append(',');
+        appendAmount(line, Math.round(basicSalary / 21 / 8 * 100) / 100.0);
+    }
+
+    private static Grade pickGrade(SplittableRandom random) {
+        double draw = random.nextDouble();
+        for (Grade grade : GRADES) {
+            if (draw < grade.share) {
+                return grade;
+            }
+            draw -= grade.share;
+        }
+        return GRADES[0];
+    }
+
+    private static StringBuilder appendDigits(StringBuilder line, SplittableRandom random, int count) {
+        for (int i = 0; i < count; i++) {
+            line.append((char) ('0' + random.nextInt(10)));
+        }
+        return line;
+    }
+
+    private static StringBuilder appendAmount(StringBuilder line, double amount) {
+        long centavos = Math.round(amount * 100);
+        line.append(centavos / 100).append('.');
+        long fraction = centavos % 100;
+        if (fraction < 10) {
+            line.append('0');
+        }
+        return line.append(fraction);
+    }
+
+    /** Replaces a good employee row with one of the mistakes CSVHandler reports. */
+    private static void malformEmployee(StringBuilder line, SplittableRandom random) {
+        int firstComma = line.indexOf(",");
+        switch (random.nextInt(3)) {
+            case 0:
+                line.setLength(line.indexOf(",,,"));
+                break;
+            case 1:
+                int birthdayStart = line.indexOf(",", line.indexOf(",", firstComma + 1) + 1) + 1;
+                line.replace(birthdayStart, line.indexOf(",", birthdayStart), "31/02/1990");
+                break;
+            default:
+                line.replace(0, firstComma, "E" + line.substring(0, firstComma));
+                break;
+        }
+    }
+
+    /**
+     * Writes attendance CSV rows, header first, one row per employee per weekday in the
+     * date range, ordered by date and then employee like the bundled file.
+     *
+     * @param writer Destination; not closed.
+     * @return Number of data rows written.
+     * @throws IOException If the rows cannot be written.
+     */
+    public long writeAttendance(Writer writer) throws IOException {
+        // Seeded apart from the employee file so either file can be regenerated alone
+        SplittableRandom random = new SplittableRandom(seed ^ 0x5DEECE66DL);
+        StringBuilder line = new StringBuilder(64);
+        char[] chars = new char[64];
+        char[] date = new char[10];
+        long rows = 0;
+        writer.write(ATTENDANCE_HEADER);
+        writer.write('\n');
+        for (LocalDate day = firstDate; !day.isAfter(lastDate); day = day.plusDays(1)) {
+            if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            formatDate(day, date);
+            for (int i = 0; i < employees; i++) {
+                line.setLength(0);
+                line.append(FIRST_EMPLOYEE_NUMBER + i).append(',').append(date).append(',');
+                appendPunches(line, random);
+                if (random.nextDouble() < malformedRate) {
+                    malformAttendance(line, random);
+                }
+                line.append('\n');
+                chars = write(writer, line, chars);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static void formatDate(LocalDate day, char[] date) {
+        int month = day.getMonthValue();
+        int dayOfMonth = day.getDayOfMonth();
+        int year = day.getYear();
+        date[0] = (char) ('0' + month / 10);
+        date[1] = (char) ('0' + month % 10);
+        date[2] = '/';
+        date[3] = (char) ('0' + dayOfMonth / 10);
+        date[4] = (char) ('0' + dayOfMonth % 10);
+        date[5] = '/';
+        for (int i = 9; i >= 6; i--) {
+            date[i] = (char) ('0' + year % 10);
+            year /= 10;
+        }
+    }
+
+    /**
+     * Appends time in and time out. On-time arrivals fall up to half an hour before 8:00;
+     * late arrivals and overtime follow exponential distributions around their means.
+     */
+    private void appendPunches(StringBuilder line, SplittableRandom random) {
+        boolean late = random.nextDouble() < lateRate;
+        int minuteIn = late
+                ? 8 * 60 + 1 + (int) Math.min(exponential(random, meanLateMinutes), 240)
+                : 8 * 60 - random.nextInt(31);
+        int minuteOut = 17 * 60 + random.nextInt(11);
+        if (!late && random.nextDouble() < overtimeRate) {
+            minuteOut += (int) Math.min(exponential(random, meanOvertimeMinutes), 360);
+        }
+
+        int missing = random.nextDouble() < missingPunchRate ? 1 + random.nextInt(2) : 0;
+        if (missing != 1) {
+            appendTime(line, minuteIn);
+        }
+        line.append(',');
+        if (missing != 2) {
+            appendTime(line, minuteOut);
+        }
+    }
+
+    private static double exponential(SplittableRandom random, double mean) {
+        return -mean * Math.log(1 - random.nextDouble());
+    }
+
+    private static void appendTime(StringBuilder line, int minuteOfDay) {
+        int minute = minuteOfDay % 60;
+        line.append(minuteOfDay / 60).append(':');
+        if (minute < 10) {
+            line.append('0');
+        }
+        line.append(minute);
+    }
+
+    /** Replaces a good attendance row with one of the mistakes CSVHandler reports. */
+    private static void malformAttendance(StringBuilder line, SplittableRandom random) {
+        int firstComma = line.indexOf(",");
+        switch (random.nextInt(4)) {
+            case 0:
+                line.setLength(line.lastIndexOf(","));
+                break;
+            case 1:
+                line.replace(firstComma + 1, firstComma + 11, "13/45/2024");
+                break;
+            case 2:
+                line.replace(line.lastIndexOf(",") + 1, line.length(), "25:99");
+                break;
+            default:
+                line.replace(0, firstComma, "#" + line.substring(0, firstComma));
+                break;
+        }
+    }
+
+    /**
+     * Runs the generator from the command line.
+     *
+     * @param args Options in the form --name=value; see the class description.
+     */
+    public static void main(String[] args) {
+        Path out = Path.of("target/generated-data");
+        long seed = 11;
+        DatasetGenerator generator = null;
+        String[] settings = new String[args.length];
+        int settingCount = 0;
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("--out=")) {
+                    out = Path.of(arg.substring(6));
+                } else if (arg.startsWith("--seed=")) {
+                    seed = Long.parseLong(arg.substring(7));
+                } else {
+                    settings[settingCount++] = arg;
+                }
+            }
+            generator = new DatasetGenerator(seed);
+            for (int i = 0; i < settingCount; i++) {
+                generator.apply(settings[i]);
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            long employeeRows = generator.writeEmployees(out.resolve("employeedata.csv"));
+            long attendanceRows = generator.writeAttendance(out.resolve("attendancerecord.csv"));
+            System.out.printf("Wrote %d employees and %d attendance rows to %s in %d ms%n",
+                    employeeRows, attendanceRows, out, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            System.err.println("Error writing generated data: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private void apply(String arg) {
+        int equals = arg.indexOf('=');
+        if (!arg.startsWith("--") || equals < 0) {
+            throw new IllegalArgumentException("Expected --name=value: " + arg);
+        }
+        String value = arg.substring(equals + 1);
+        switch (arg.substring(2, equals)) {
+            case "employees": setEmployees(Integer.parseInt(value)); break;
+            case "from": setFirstDate(LocalDate.parse(value)); break;
+            case "to": setLastDate(LocalDate.parse(value)); break;
+            case "late-rate": setLateRate(Double.parseDouble(value)); break;
+            case "late-minutes": setMeanLateMinutes(Double.parseDouble(value)); break;
+            case "overtime-rate": setOvertimeRate(Double.parseDouble(value)); break;
+            case "overtime-minutes": setMeanOvertimeMinutes(Double.parseDouble(value)); break;
+            case "missing-punch-rate": setMissingPunchRate(Double.parseDouble(value)); break;
+            case "malformed-rate": setMalformedRate(Double.parseDouble(value)); break;
+            default: throw new IllegalArgumentException("Unknown option: " + arg);
+        }
+    }
+}
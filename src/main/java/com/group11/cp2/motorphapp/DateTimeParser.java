@@ -0,0 +1,214 @@
+/**
+ * Parses the fixed date and time layouts of the MotorPH CSV files without allocating.
+ *
+ * Dates come back as days since 1970-01-01 and times as minute of day. Text that
+ * does not fit the layout returns a result code instead of throwing; callers then
+ * hand the text to the matching DateTimeFormatter, which accepts the rarer forms
+ * and produces the usual parse errors.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.nio.ByteBuffer;
+
+public final class DateTimeParser {
+    /** Result code: the text does not have the expected layout. */
+    public static final int BAD_LAYOUT = Integer.MIN_VALUE;
+
+    /** Result code: a field is out of range, such as month 13 or April 31. */
+    public static final int OUT_OF_RANGE = Integer.MIN_VALUE + 1;
+
+    private DateTimeParser() {
+    }
+
+    /**
+     * Checks whether a parse result is an error code rather than a value.
+     *
+     * @param result Value returned by one of the parse methods.
+     * @return true if the text could not be parsed.
+     */
+    public static boolean isError(int result) {
+        return result <= OUT_OF_RANGE;
+    }
+
+    /**
+     * Parses an attendance date in the layout MM/dd/yyyy.
+     *
+     * @param text Date text.
+     * @return Days since 1970-01-01, or an error code.
+     */
+    public static int parseAttendanceDate(CharSequence text) {
+        if (text.length() != 10 || text.charAt(2) != '/' || text.charAt(5) != '/') {
+            return BAD_LAYOUT;
+        }
+        return toEpochDay(digits(text, 6, 10), digits(text, 0, 2), digits(text, 3, 5));
+    }
+
+    /**
+     * Parses an employee birthday in the layout M/d/yyyy, with one or two digit month and day.
+     *
+     * @param text Date text.
+     * @return Days since 1970-01-01, or an error code.
+     */
+    public static int parseEmployeeDate(CharSequence text) {
+        int length = text.length();
+        int firstSlash = length > 1 && text.charAt(1) == '/' ? 1 : length > 2 && text.charAt(2) == '/' ? 2 : -1;
+        if (firstSlash < 0) {
+            return BAD_LAYOUT;
+        }
+        int yearStart = length - 4;
+        int secondSlash = yearStart - 1;
+        int dayLength = secondSlash - firstSlash - 1;
+        if (dayLength < 1 || dayLength > 2 || text.charAt(secondSlash) != '/') {
+            return BAD_LAYOUT;
+        }
+        return toEpochDay(digits(text, yearStart, length), digits(text, 0, firstSlash),
+                digits(text, firstSlash + 1, secondSlash));
+    }
+
+    /**
+     * Parses a time in the layout H:mm.
+     *
+     * @param text Time text.
+     * @return Minute of day, {@link MappedAttendanceReader#NO_TIME} if the text is empty, or an error code.
+     */
+    public static int parseTime(CharSequence text) {
+        int length = text.length();
+        if (length == 0) {
+            return MappedAttendanceReader.NO_TIME;
+        }
+        if ((length != 4 && length != 5) || text.charAt(length - 3) != ':') {
+            return BAD_LAYOUT;
+        }
+        return toMinuteOfDay(digits(text, 0, length - 3), digits(text, length - 2, length));
+    }
+
+    /**
+     * Parses an attendance date in the layout MM/dd/yyyy from file bytes, ignoring surrounding blanks.
+     *
+     * @return Days since 1970-01-01, or an error code.
+     */
+    static int parseAttendanceDate(ByteBuffer buffer, int start, int end) {
+        start = trimStart(buffer, start, end);
+        end = trimEnd(buffer, start, end);
+        if (end - start != 10 || buffer.get(start + 2) != '/' || buffer.get(start + 5) != '/') {
+            return BAD_LAYOUT;
+        }
+        return toEpochDay(digits(buffer, start + 6, start + 10), digits(buffer, start, start + 2),
+                digits(buffer, start + 3, start + 5));
+    }
+
+    /**
+     * Parses a time in the layout H:mm from file bytes, ignoring surrounding blanks.
+     *
+     * @return Minute of day, {@link MappedAttendanceReader#NO_TIME} if the field is blank, or an error code.
+     */
+    static int parseTime(ByteBuffer buffer, int start, int end) {
+        start = trimStart(buffer, start, end);
+        end = trimEnd(buffer, start, end);
+        int length = end - start;
+        if (length == 0) {
+            return MappedAttendanceReader.NO_TIME;
+        }
+        if ((length != 4 && length != 5) || buffer.get(end - 3) != ':') {
+            return BAD_LAYOUT;
+        }
+        return toMinuteOfDay(digits(buffer, start, end - 3), digits(buffer, end - 2, end));
+    }
+
+    private static int toEpochDay(int year, int month, int day) {
+        if (year < 0 || month < 0 || day < 0) {
+            return BAD_LAYOUT;
+        }
+        if (month < 1 || month > 12 || year < 1 || day < 1 || day > lengthOfMonth(year, month)) {
+            return OUT_OF_RANGE;
+        }
+        return epochDay(year, month, day);
+    }
+
+    private static int toMinuteOfDay(int hour, int minute) {
+        if (hour < 0 || minute < 0) {
+            return BAD_LAYOUT;
+        }
+        if (hour > 23 || minute > 59) {
+            return OUT_OF_RANGE;
+        }
+        return hour * 60 + minute;
+    }
+
+    private static int digits(CharSequence text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int digits(ByteBuffer buffer, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    static int trimStart(ByteBuffer buffer, int start, int end) {
+        while (start < end && (buffer.get(start) & 0xff) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    static int trimEnd(ByteBuffer buffer, int start, int end) {
+        while (end > start && (buffer.get(end - 1) & 0xff) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Checks for a leap year in the proleptic Gregorian calendar.
+     *
+     * @param year Year.
+     * @return true if February has 29 days.
+     */
+    static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Gets the number of days in a month.
+     *
+     * @param year Year.
+     * @param month Month from 1 to 12.
+     * @return Number of days.
+     */
+    static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2: return isLeapYear(year) ? 29 : 28;
+            case 4: case 6: case 9: case 11: return 30;
+            default: return 31;
+        }
+    }
+
+    /**
+     * Converts a calendar date to days since 1970-01-01 without allocating.
+     */
+    static int epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * ((month + 9) % 12) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+}
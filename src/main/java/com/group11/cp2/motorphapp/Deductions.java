@@ -5,14 +5,25 @@
  */
 package com.group11.cp2.motorphapp;
 
-import java.util.ArrayList;
-
 public class Deductions {
     private double sss;
     private double philHealth;
     private double pagIbig;
     private double withholdingTax;
 
+    private static final double SSS_FIRST_LIMIT = 3250.0;
+    private static final double SSS_LAST_LIMIT = 24750.0;
+    private static final double SSS_BRACKET_WIDTH = 500.0;
+    private static final double SSS_MAX_CONTRIBUTION = 1125.00;
+    // Contribution for salaries below 3250, 3750, ..., 24750
+    private static final double[] SSS_CONTRIBUTIONS = {
+        135.00, 157.50, 180.00, 202.50, 225.00, 247.50, 270.00, 292.50, 315.00, 337.50,
+        360.00, 382.50, 405.00, 427.50, 450.00, 472.50, 495.00, 517.50, 540.00, 562.50,
+        585.00, 607.50, 630.00, 652.50, 675.00, 697.50, 720.00, 742.50, 765.00, 787.50,
+        810.00, 832.50, 855.00, 877.50, 900.00, 922.50, 945.00, 967.50, 990.00, 1012.50,
+        1035.00, 1057.50, 1080.00, 1102.50
+    };
+
     /**
      * Creates a Deductions instance based on salary details.
      *
@@ -27,6 +38,21 @@ public class Deductions {
         this.withholdingTax = calculateWithholdingTax(taxableIncome);
     }
 
+    /**
+     * Creates a Deductions instance from the statutory rate tables in effect for the pay period.
+     *
+     * @param monthlyGrossSalary Employee's monthly gross salary.
+     * @param basicSalary Employee's basic salary for PhilHealth calculation.
+     * @param rates Statutory rate tables for the pay period.
+     */
+    public Deductions(double monthlyGrossSalary, double basicSalary, StatutoryRates rates) {
+        this.sss = rates.getSss().apply(monthlyGrossSalary);
+        this.philHealth = rates.getPhilHealth().apply(basicSalary);
+        this.pagIbig = rates.getPagIbig().apply(monthlyGrossSalary);
+        double taxableIncome = monthlyGrossSalary - (sss + philHealth + pagIbig);
+        this.withholdingTax = rates.getWithholdingTax().apply(taxableIncome);
+    }
+
     public double getSss() { return sss; }
     public double getPhilHealth() { return philHealth; }
     public double getPagIbig() { return pagIbig; }
@@ -43,74 +69,30 @@ public class Deductions {
 
     /**
      * Calculates SSS contribution based on salary.
+     * Brackets are 500 PHP wide from 3250 to 24750, so the bracket is found by index arithmetic.
      *
      * @param monthlyGrossSalary Monthly gross salary.
      * @return SSS contribution amount.
      */
-    private static double calculateSSSContribution(double monthlyGrossSalary) {
-        class SalaryContribution {
-            double salaryLimit;
-            double contribution;
-
-            SalaryContribution(double salaryLimit, double contribution) {
-                this.salaryLimit = salaryLimit;
-                this.contribution = contribution;
-            }
+    static double calculateSSSContribution(double monthlyGrossSalary) {
+        if (monthlyGrossSalary < SSS_FIRST_LIMIT) {
+            return SSS_CONTRIBUTIONS[0];
         }
-
-        ArrayList<SalaryContribution> sssTable = new ArrayList<>();
-        sssTable.add(new SalaryContribution(3250.0, 135.00));
-        sssTable.add(new SalaryContribution(3750.0, 157.50));
-        sssTable.add(new SalaryContribution(4250.0, 180.00));
-        sssTable.add(new SalaryContribution(4750.0, 202.50));
-        sssTable.add(new SalaryContribution(5250.0, 225.00));
-        sssTable.add(new SalaryContribution(5750.0, 247.50));
-        sssTable.add(new SalaryContribution(6250.0, 270.00));
-        sssTable.add(new SalaryContribution(6750.0, 292.50));
-        sssTable.add(new SalaryContribution(7250.0, 315.00));
-        sssTable.add(new SalaryContribution(7750.0, 337.50));
-        sssTable.add(new SalaryContribution(8250.0, 360.00));
-        sssTable.add(new SalaryContribution(8750.0, 382.50));
-        sssTable.add(new SalaryContribution(9250.0, 405.00));
-        sssTable.add(new SalaryContribution(9750.0, 427.50));
-        sssTable.add(new SalaryContribution(10250.0, 450.00));
-        sssTable.add(new SalaryContribution(10750.0, 472.50));
-        sssTable.add(new SalaryContribution(11250.0, 495.00));
-        sssTable.add(new SalaryContribution(11750.0, 517.50));
-        sssTable.add(new SalaryContribution(12250.0, 540.00));
-        sssTable.add(new SalaryContribution(12750.0, 562.50));
-        sssTable.add(new SalaryContribution(13250.0, 585.00));
-        sssTable.add(new SalaryContribution(13750.0, 607.50));
-        sssTable.add(new SalaryContribution(14250.0, 630.00));
-        sssTable.add(new SalaryContribution(14750.0, 652.50));
-        sssTable.add(new SalaryContribution(15250.0, 675.00));
-        sssTable.add(new SalaryContribution(15750.0, 697.50));
-        sssTable.add(new SalaryContribution(16250.0, 720.00));
-        sssTable.add(new SalaryContribution(16750.0, 742.50));
-        sssTable.add(new SalaryContribution(17250.0, 765.00));
-        sssTable.add(new SalaryContribution(17750.0, 787.50));
-        sssTable.add(new SalaryContribution(18250.0, 810.00));
-        sssTable.add(new SalaryContribution(18750.0, 832.50));
-        sssTable.add(new SalaryContribution(19250.0, 855.00));
-        sssTable.add(new SalaryContribution(19750.0, 877.50));
-        sssTable.add(new SalaryContribution(20250.0, 900.00));
-        sssTable.add(new SalaryContribution(20750.0, 922.50));
-        sssTable.add(new SalaryContribution(21250.0, 945.00));
-        sssTable.add(new SalaryContribution(21750.0, 967.50));
-        sssTable.add(new SalaryContribution(22250.0, 990.00));
-        sssTable.add(new SalaryContribution(22750.0, 1012.50));
-        sssTable.add(new SalaryContribution(23250.0, 1035.00));
-        sssTable.add(new SalaryContribution(23750.0, 1057.50));
-        sssTable.add(new SalaryContribution(24250.0, 1080.00));
-        sssTable.add(new SalaryContribution(24750.0, 1102.50));
-
-        for (SalaryContribution entry : sssTable) {
-            if (monthlyGrossSalary < entry.salaryLimit) {
-                return entry.contribution;
-            }
+        if (!(monthlyGrossSalary < SSS_LAST_LIMIT)) {
+            return SSS_MAX_CONTRIBUTION;
+        }
+        int bracket = (int) ((monthlyGrossSalary - SSS_FIRST_LIMIT) / SSS_BRACKET_WIDTH) + 1;
+        // Guard against the quotient rounding across a bracket edge
+        if (monthlyGrossSalary >= sssLimit(bracket)) {
+            bracket++;
+        } else if (monthlyGrossSalary < sssLimit(bracket - 1)) {
+            bracket--;
         }
+        return SSS_CONTRIBUTIONS[bracket];
+    }
 
-        return 1125.00;
+    private static double sssLimit(int bracket) {
+        return SSS_FIRST_LIMIT + bracket * SSS_BRACKET_WIDTH;
     }
 
     /**
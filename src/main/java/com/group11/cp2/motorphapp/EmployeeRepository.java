@@ -0,0 +1,269 @@
+/**
+ * Holds the employees of the MotorPH Payroll System, keyed by employee number.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class EmployeeRepository implements Iterable<Employee> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final LongObjectMap<Entry> byNumber;
+    private Entry[] order;
+    private int slots;
+    private int size;
+    private int modCount;
+
+    /**
+     * An employee and its position in insertion order.
+     */
+    private static final class Entry {
+        Employee employee;
+        int slot;
+
+        Entry(Employee employee, int slot) {
+            this.employee = employee;
+            this.slot = slot;
+        }
+    }
+
+    /**
+     * Creates an empty repository.
+     */
+    public EmployeeRepository() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an empty repository sized for the expected number of employees.
+     *
+     * @param expectedSize Expected number of employees.
+     */
+    public EmployeeRepository(int expectedSize) {
+        byNumber = new LongObjectMap<>(expectedSize);
+        order = new Entry[Math.max(expectedSize, INITIAL_CAPACITY)];
+    }
+
+    /**
+     * Creates a repository holding the given employees in list order.
+     *
+     * @param employees List of employees.
+     * @return EmployeeRepository with every employee.
+     */
+    public static EmployeeRepository of(List<Employee> employees) {
+        EmployeeRepository repository = new EmployeeRepository(employees.size());
+        for (Employee employee : employees) {
+            repository.put(employee);
+        }
+        return repository;
+    }
+
+    /**
+     * Loads employees from a CSV file.
+     *
+     * @param filePath Path to the CSV file.
+     * @return EmployeeRepository holding every valid row.
+     */
+    public static EmployeeRepository load(String filePath) {
+        return of(CSVHandler.readEmployeesFromCSV(filePath));
+    }
+
+    /**
+     * Gets an employee by number.
+     *
+     * @param employeeNumber Employee's unique ID.
+     * @return Employee, or null if there is none.
+     */
+    public Employee get(int employeeNumber) {
+        Entry entry = byNumber.get(employeeNumber);
+        return entry != null ? entry.employee : null;
+    }
+
+    /**
+     * Checks whether an employee number is taken.
+     *
+     * @param employeeNumber Employee's unique ID.
+     * @return true if an employee has the number.
+     */
+    public boolean contains(int employeeNumber) {
+        return byNumber.containsKey(employeeNumber);
+    }
+
+    /**
+     * Adds an employee, or replaces the employee with the same number in place.
+     *
+     * @param employee Employee to store.
+     * @return Replaced employee, or null if the number was new.
+     */
+    public Employee put(Employee employee) {
+        Entry entry = byNumber.get(employee.getEmployeeNumber());
+        if (entry != null) {
+            Employee previous = entry.employee;
+            entry.employee = employee;
+            return previous;
+        }
+        if (slots == order.length) {
+            if (size < slots) {
+                compact();
+            }
+            if (slots == order.length) {
+                order = Arrays.copyOf(order, order.length + (order.length >> 1));
+            }
+        }
+        entry = new Entry(employee, slots);
+        order[slots++] = entry;
+        byNumber.put(employee.getEmployeeNumber(), entry);
+        size++;
+        modCount++;
+        return null;
+    }
+
+    /**
+     * Removes an employee by number.
+     *
+     * @param employeeNumber Employee's unique ID.
+     * @return Removed employee, or null if there was none.
+     */
+    public Employee remove(int employeeNumber) {
+        Entry entry = byNumber.remove(employeeNumber);
+        if (entry == null) {
+            return null;
+        }
+        order[entry.slot] = null;
+        size--;
+        modCount++;
+        // Removed slots are left empty and squeezed out once they outnumber the live ones
+        if (slots - size > size && slots > INITIAL_CAPACITY) {
+            compact();
+        }
+        return entry.employee;
+    }
+
+    private void compact() {
+        int live = 0;
+        for (int i = 0; i < slots; i++) {
+            Entry entry = order[i];
+            if (entry != null) {
+                entry.slot = live;
+                order[live++] = entry;
+            }
+        }
+        Arrays.fill(order, live, slots, null);
+        slots = live;
+    }
+
+    /**
+     * Replaces every employee with the given ones.
+     *
+     * @param employees List of employees in display order.
+     */
+    public void replaceAll(List<Employee> employees) {
+        clear();
+        for (Employee employee : employees) {
+            put(employee);
+        }
+    }
+
+    /**
+     * Removes every employee.
+     */
+    public void clear() {
+        byNumber.clear();
+        Arrays.fill(order, 0, slots, null);
+        slots = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Gets the number of employees.
+     *
+     * @return Number of employees.
+     */
+    public int size() { return size; }
+
+    /**
+     * Checks whether the repository is empty.
+     *
+     * @return true if there are no employees.
+     */
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * Gets the highest employee number in use.
+     *
+     * @param defaultValue Value returned when the repository is empty.
+     * @return Highest employee number, or the default if there are no employees.
+     */
+    public int maxEmployeeNumber(int defaultValue) {
+        int max = defaultValue;
+        boolean found = false;
+        for (int i = 0; i < slots; i++) {
+            if (order[i] != null) {
+                int number = order[i].employee.getEmployeeNumber();
+                max = found ? Math.max(max, number) : number;
+                found = true;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Copies the employees into a list in insertion order.
+     *
+     * @return List of employees.
+     */
+    public List<Employee> toList() {
+        List<Employee> employees = new ArrayList<>(size);
+        for (Employee employee : this) {
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    /**
+     * Iterates the employees in insertion order. The repository must not be
+     * changed while iterating.
+     *
+     * @return Iterator over the employees.
+     */
+    @Override
+    public Iterator<Employee> iterator() {
+        return new Iterator<>() {
+            private final int expectedModCount = modCount;
+            private int next = advance(0);
+
+            private int advance(int from) {
+                while (from < slots && order[from] == null) {
+                    from++;
+                }
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < slots;
+            }
+
+            @Override
+            public Employee next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (next >= slots) {
+                    throw new NoSuchElementException();
+                }
+                Employee employee = order[next].employee;
+                next = advance(next + 1);
+                return employee;
+            }
+        };
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * Table model that shows the employee repository in the MotorPH Payroll System.
+ *
+ * Rows hold only employee numbers; cell values are read from the repository
+ * when the table paints them.
+ *
+ * Each employee number sits in a slot in insertion order, and a removed employee's slot
+ * is left empty and squeezed out once empty slots outnumber the live ones, as in
+ * EmployeeRepository. A Fenwick tree counts the live slots, so translating between table
+ * rows and slots, and therefore adding, updating and removing a row, takes O(log n)
+ * instead of shifting or scanning the rows.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Arrays;
+
+public class EmployeeTableModel extends AbstractTableModel {
+    private static final String[] COLUMN_NAMES = {
+        "Employee #", "Last Name", "First Name", "SSS #", "Philhealth #", "TIN #", "Pag Ibig #"
+    };
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final EmployeeRepository employees;
+    private final LongObjectMap<Integer> slotByNumber = new LongObjectMap<>();
+    private int[] slotNumbers = new int[0];
+    private boolean[] live = new boolean[0];
+    private int[] liveCounts = new int[1];
+    private int slots;
+    private int rowCount;
+
+    /**
+     * Creates a table model over an employee repository.
+     *
+     * @param employees Employee repository.
+     */
+    public EmployeeTableModel(EmployeeRepository employees) {
+        this.employees = employees;
+        reload();
+    }
+
+    /**
+     * Rebuilds the rows from the repository after it was changed directly.
+     */
+    public final void reload() {
+        slotNumbers = new int[Math.max(employees.size(), INITIAL_CAPACITY)];
+        live = new boolean[slotNumbers.length];
+        slotByNumber.clear();
+        slots = 0;
+        for (Employee employee : employees) {
+            slotByNumber.put(employee.getEmployeeNumber(), slots);
+            slotNumbers[slots] = employee.getEmployeeNumber();
+            live[slots++] = true;
+        }
+        rowCount = slots;
+        rebuildCounts();
+        fireTableDataChanged();
+    }
+
+    @Override
+    public int getRowCount() { return rowCount; }
+
+    @Override
+    public int getColumnCount() { return COLUMN_NAMES.length; }
+
+    @Override
+    public String getColumnName(int column) { return COLUMN_NAMES[column]; }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return column == 0 ? Integer.class : String.class;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Employee emp = getEmployeeAt(row);
+        if (emp == null) {
+            return null;
+        }
+        GovernmentDetails gov = emp.getGovernmentDetails();
+        switch (column) {
+            case 0: return emp.getEmployeeNumber();
+            case 1: return emp.getLastName();
+            case 2: return emp.getFirstName();
+            case 3: return gov != null ? gov.getSssNumber() : "N/A";
+            case 4: return gov != null ? gov.getPhilHealthNumber() : "N/A";
+            case 5: return gov != null ? gov.getTinNumber() : "N/A";
+            case 6: return gov != null ? gov.getPagIbigNumber() : "N/A";
+            default: return null;
+        }
+    }
+
+    /**
+     * Gets the employee shown in a row.
+     *
+     * @param row Row index.
+     * @return Employee, or null if it is no longer in the repository.
+     */
+    public Employee getEmployeeAt(int row) {
+        return employees.get(slotNumbers[slotOf(row)]);
+    }
+
+    /**
+     * Adds an employee to the repository and appends its row, or refreshes
+     * the existing row if the employee number is already shown.
+     *
+     * @param employee Employee to add.
+     */
+    public void addEmployee(Employee employee) {
+        int employeeNumber = employee.getEmployeeNumber();
+        if (employees.put(employee) != null) {
+            Integer slot = slotByNumber.get(employeeNumber);
+            if (slot != null) {
+                int row = rowOfSlot(slot);
+                fireTableRowsUpdated(row, row);
+            }
+            return;
+        }
+        if (slots == slotNumbers.length) {
+            if (rowCount < slots) {
+                compact();
+            }
+            if (slots == slotNumbers.length) {
+                int capacity = slots + (slots >> 1) + 1;
+                slotNumbers = Arrays.copyOf(slotNumbers, capacity);
+                live = Arrays.copyOf(live, capacity);
+                rebuildCounts();
+            }
+        }
+        slotByNumber.put(employeeNumber, slots);
+        slotNumbers[slots] = employeeNumber;
+        live[slots] = true;
+        addCount(slots++, 1);
+        rowCount++;
+        fireTableRowsInserted(rowCount - 1, rowCount - 1);
+    }
+
+    /**
+     * Removes the employee in a row from the repository and the table.
+     *
+     * @param row Row index.
+     * @return Removed employee, or null if it was no longer in the repository.
+     */
+    public Employee removeEmployeeAt(int row) {
+        int slot = slotOf(row);
+        int employeeNumber = slotNumbers[slot];
+        Employee removed = employees.remove(employeeNumber);
+        slotByNumber.remove(employeeNumber);
+        live[slot] = false;
+        addCount(slot, -1);
+        rowCount--;
+        if (slots - rowCount > rowCount && slots > INITIAL_CAPACITY) {
+            compact();
+        }
+        fireTableRowsDeleted(row, row);
+        return removed;
+    }
+
+    /**
+     * Repaints a row after its employee was edited in place.
+     *
+     * @param row Row index.
+     */
+    public void employeeUpdated(int row) {
+        fireTableRowsUpdated(row, row);
+    }
+
+    /**
+     * Moves the live slots to the front, keeping their order.
+     */
+    private void compact() {
+        int kept = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            if (live[slot]) {
+                slotNumbers[kept] = slotNumbers[slot];
+                slotByNumber.put(slotNumbers[kept], kept);
+                kept++;
+            }
+        }
+        Arrays.fill(live, 0, kept, true);
+        Arrays.fill(live, kept, slots, false);
+        slots = kept;
+        rebuildCounts();
+    }
+
+    /**
+     * Builds the Fenwick tree of live slots in linear time.
+     */
+    private void rebuildCounts() {
+        liveCounts = new int[slotNumbers.length + 1];
+        for (int i = 1; i < liveCounts.length; i++) {
+            if (live[i - 1]) {
+                liveCounts[i]++;
+            }
+            int parent = i + (i & -i);
+            if (parent < liveCounts.length) {
+                liveCounts[parent] += liveCounts[i];
+            }
+        }
+    }
+
+    private void addCount(int slot, int delta) {
+        for (int i = slot + 1; i < liveCounts.length; i += i & -i) {
+            liveCounts[i] += delta;
+        }
+    }
+
+    /**
+     * Gets the row of a live slot, which is the number of live slots before it.
+     */
+    private int rowOfSlot(int slot) {
+        int row = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            row += liveCounts[i];
+        }
+        return row;
+    }
+
+    /**
+     * Gets the slot of a row, which is the live slot with that many live slots before it.
+     */
+    private int slotOf(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of " + rowCount);
+        }
+        int position = 0;
+        int remaining = row + 1;
+        for (int step = Integer.highestOneBit(liveCounts.length - 1); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < liveCounts.length && liveCounts[next] < remaining) {
+                position = next;
+                remaining -= liveCounts[next];
+            }
+        }
+        return position;
+    }
+}
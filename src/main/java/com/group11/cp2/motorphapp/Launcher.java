@@ -0,0 +1,36 @@
+/**
+ * Entry point of the MotorPH Payroll System jar.
+ *
+ * Usage: java -jar MotorPHApp.jar [--partitions=DIR]  starts the desktop application, optionally on
+ *                                                     month-partitioned attendance
+ *        java -jar MotorPHApp.jar batch [...]          runs payroll headless, see {@link PayrollBatch}
+ *        java -jar MotorPHApp.jar serve [...]          serves payroll over HTTP, see {@link PayrollServer}
+ *        java -jar MotorPHApp.jar loadtest [...]       load-tests that server, see {@link PayrollLoadTest}
+ *
+ * The desktop classes are only loaded when the desktop application starts, so the other
+ * commands never load Swing or AWT.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.util.Arrays;
+
+public class Launcher {
+
+    /**
+     * Starts the desktop application, or the headless command named by the first argument.
+     *
+     * @param args Command-line arguments.
+     */
+    public static void main(String[] args) {
+        String command = args.length > 0 ? args[0] : "";
+        String[] rest = args.length > 0 ? Arrays.copyOfRange(args, 1, args.length) : args;
+        switch (command) {
+            case "batch": PayrollBatch.main(rest); break;
+            case "serve": PayrollServer.main(rest); break;
+            case "loadtest": PayrollLoadTest.main(rest); break;
+            default: MotorPHApp.main(args); break;
+        }
+    }
+}
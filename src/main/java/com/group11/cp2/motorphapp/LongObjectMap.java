@@ -0,0 +1,192 @@
+/**
+ * Open-addressing hash map with primitive long keys for the MotorPH Payroll System.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.util.Arrays;
+
+public class LongObjectMap<V> {
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private Object[] values;
+    private boolean[] used;
+    private int size;
+    private int threshold;
+
+    /**
+     * Creates an empty map.
+     */
+    public LongObjectMap() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty map sized for the expected number of entries.
+     *
+     * @param expectedSize Expected number of entries.
+     */
+    public LongObjectMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        used = new boolean[capacity];
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the value for a key.
+     *
+     * @param key Key to look up.
+     * @return Value, or null if the key is absent.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int slot = slotOf(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    /**
+     * Checks whether the map contains a key.
+     *
+     * @param key Key to look up.
+     * @return true if the key is present.
+     */
+    public boolean containsKey(long key) {
+        return slotOf(key) >= 0;
+    }
+
+    /**
+     * Associates a value with a key.
+     *
+     * @param key Key to store.
+     * @param value Value to store.
+     * @return Previous value, or null if the key was absent.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        used[slot] = true;
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key Key to remove.
+     * @return Removed value, or null if the key was absent.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int slot = slotOf(key);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = (V) values[slot];
+        int mask = keys.length - 1;
+        // Backward-shift deletion keeps probe chains intact without tombstones
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (used[next]) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        used[gap] = false;
+        values[gap] = null;
+        size--;
+        return previous;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                put(oldKeys[i], uncheckedCast(oldValues[i]));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V uncheckedCast(Object value) {
+        return (V) value;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        Arrays.fill(used, false);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return Number of entries.
+     */
+    public int size() { return size; }
+
+    /**
+     * Gets every key in ascending order.
+     *
+     * @return Sorted array of keys.
+     */
+    public long[] sortedKeys() {
+        long[] result = new long[size];
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                result[count++] = keys[i];
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+}
@@ -0,0 +1,345 @@
+/**
+ * Reads the attendance CSV through a memory-mapped view in the MotorPH Payroll System.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class MappedAttendanceReader {
+
+    /** Minute-of-day value used when a punch is missing. */
+    public static final int NO_TIME = -1;
+
+    private static final long MAX_WINDOW = 1L << 30;
+
+    /**
+     * Receives parsed attendance rows.
+     */
+    public interface RowHandler {
+        /**
+         * Receives a row parsed straight from the file bytes.
+         *
+         * @param employeeNumber Employee's unique ID.
+         * @param epochDay Date of the record as days since 1970-01-01.
+         * @param minuteIn Time in as minute of day, or {@link #NO_TIME}.
+         * @param minuteOut Time out as minute of day, or {@link #NO_TIME}.
+         */
+        void row(int employeeNumber, int epochDay, int minuteIn, int minuteOut);
+
+        /**
+         * Receives a row that went through the regular CSVHandler parser.
+         *
+         * @param record Parsed attendance record.
+         */
+        default void record(AttendanceRecord record) {
+            row(record.getEmployeeNumber(), (int) record.getDate().toEpochDay(),
+                    toMinuteOfDay(record.getTimeIn()), toMinuteOfDay(record.getTimeOut()));
+        }
+    }
+
+    /**
+     * Reads attendance records from a CSV file.
+     *
+     * @param filePath Path to the CSV file.
+     * @return List of AttendanceRecord objects.
+     */
+    public static List<AttendanceRecord> read(String filePath) {
+        List<AttendanceRecord> records = new ArrayList<>();
+        scan(filePath, new RowHandler() {
+            @Override
+            public void row(int employeeNumber, int epochDay, int minuteIn, int minuteOut) {
+                records.add(new AttendanceRecord(employeeNumber, LocalDate.ofEpochDay(epochDay),
+                        toLocalTime(minuteIn), toLocalTime(minuteOut)));
+            }
+
+            @Override
+            public void record(AttendanceRecord record) {
+                records.add(record);
+            }
+        });
+        return records;
+    }
+
+    /**
+     * Scans every data row of an attendance CSV file, skipping the header.
+     * Rows outside the plain numeric layout are handed to the regular parser,
+     * so error reporting matches {@link CSVHandler#readAttendanceCSV(String)}.
+     *
+     * @param filePath Path to the CSV file.
+     * @param handler Receiver for parsed rows.
+     */
+    public static void scan(String filePath, RowHandler handler) {
+        try (LineCursor lines = new LineCursor(Path.of(filePath))) {
+            int[] row = new int[4];
+            if (lines.next()) {
+                while (lines.next()) {
+                    parseRow(lines.buffer, lines.start, lines.end, row, handler, System.err::println);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading attendance CSV: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Streams the data rows of an attendance CSV file, skipping the header. Rows are
+     * parsed as the stream is consumed, so only one mapping window is held at a time.
+     * Close the stream, for example with try-with-resources, to release the file.
+     *
+     * @param filePath Path to the CSV file.
+     * @return Sequential stream of attendance records.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static Stream<AttendanceRecord> stream(String filePath) throws IOException {
+        LineCursor lines = new LineCursor(Path.of(filePath));
+        int[] row = new int[4];
+        Spliterator<AttendanceRecord> records = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private boolean headerSkipped;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super AttendanceRecord> action) {
+                try {
+                    if (!headerSkipped) {
+                        headerSkipped = true;
+                        if (!lines.next()) {
+                            return false;
+                        }
+                    }
+                    while (lines.next()) {
+                        AttendanceRecord record = parseRecord(lines.buffer, lines.start, lines.end, row, System.err::println);
+                        if (record != null) {
+                            action.accept(record);
+                            return true;
+                        }
+                    }
+                    return false;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(records, false).onClose(lines::close);
+    }
+
+    /**
+     * Walks the lines of a file through memory-mapped windows of up to {@link #MAX_WINDOW} bytes.
+     */
+    private static final class LineCursor implements Closeable {
+        private final FileChannel channel;
+        private final long size;
+        private long position;
+        private MappedByteBuffer buffer;
+        private int limit;
+        private boolean lastWindow;
+        private int lineStart;
+
+        /** Current line, without its line break. */
+        int start;
+        int end;
+
+        LineCursor(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            size = channel.size();
+        }
+
+        /**
+         * Moves to the next line.
+         *
+         * @return false at the end of the file.
+         */
+        boolean next() throws IOException {
+            while (true) {
+                if (buffer != null && lineStart < limit) {
+                    int lineEnd = indexOfNewline(buffer, lineStart, limit);
+                    if (lineEnd >= 0 || lastWindow) {
+                        if (lineEnd < 0) {
+                            lineEnd = limit;
+                        }
+                        start = lineStart;
+                        end = lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+                        lineStart = lineEnd + 1;
+                        return true;
+                    }
+                    if (lineStart == 0) {
+                        throw new IOException("Attendance line at offset " + position + " exceeds the mapping window");
+                    }
+                    // Line continues past this window; remap from its start
+                }
+                if (buffer != null) {
+                    position += Math.min(lineStart, limit);
+                }
+                if (position >= size) {
+                    return false;
+                }
+                limit = (int) Math.min(size - position, MAX_WINDOW);
+                lastWindow = position + limit == size;
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, limit);
+                lineStart = 0;
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                System.err.println("Error closing attendance CSV: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Parses one line, falling back to the regular parser when needed.
+     */
+    static void parseRow(ByteBuffer buffer, int start, int end, int[] row, RowHandler handler, Consumer<String> errors) {
+        if (parseFields(buffer, start, end, row)) {
+            handler.row(row[0], row[1], row[2], row[3]);
+            return;
+        }
+        AttendanceRecord record = CSVHandler.parseAttendanceLine(decode(buffer, start, end), errors);
+        if (record != null) {
+            handler.record(record);
+        }
+    }
+
+    /**
+     * Parses one line into an AttendanceRecord, falling back to the regular parser when needed.
+     *
+     * @return Parsed record, or null if the line is invalid.
+     */
+    static AttendanceRecord parseRecord(ByteBuffer buffer, int start, int end, int[] row, Consumer<String> errors) {
+        if (parseFields(buffer, start, end, row)) {
+            return new AttendanceRecord(row[0], LocalDate.ofEpochDay(row[1]), toLocalTime(row[2]), toLocalTime(row[3]));
+        }
+        return CSVHandler.parseAttendanceLine(decode(buffer, start, end), errors);
+    }
+
+    /**
+     * Parses a plain "number,MM/dd/yyyy,H:mm,H:mm" row into primitives.
+     *
+     * @return true if the row matched the plain layout and is valid.
+     */
+    private static boolean parseFields(ByteBuffer buffer, int start, int end, int[] row) {
+        int[] commas = {-1, -1, -1, end};
+        int found = 0;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == '"' || b < 0) {
+                return false; // Quoted or non-ASCII content needs the full parser
+            }
+            if (b == ',') {
+                commas[found++] = i;
+                if (found == commas.length) {
+                    break;
+                }
+            }
+        }
+        if (found < 3) {
+            return false;
+        }
+
+        int employeeNumber = parseNumber(buffer, start, commas[0]);
+        int epochDay = DateTimeParser.parseAttendanceDate(buffer, commas[0] + 1, commas[1]);
+        int minuteIn = DateTimeParser.parseTime(buffer, commas[1] + 1, commas[2]);
+        int minuteOut = DateTimeParser.parseTime(buffer, commas[2] + 1, commas[3]);
+        if (employeeNumber < 0 || DateTimeParser.isError(epochDay)
+                || DateTimeParser.isError(minuteIn) || DateTimeParser.isError(minuteOut)) {
+            return false;
+        }
+        row[0] = employeeNumber;
+        row[1] = epochDay;
+        row[2] = minuteIn;
+        row[3] = minuteOut;
+        return true;
+    }
+
+    private static int parseNumber(ByteBuffer buffer, int start, int end) {
+        start = DateTimeParser.trimStart(buffer, start, end);
+        end = DateTimeParser.trimEnd(buffer, start, end);
+        if (end == start || end - start > 9) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int indexOfNewline(ByteBuffer buffer, int from, int limit) {
+        for (int i = from; i < limit; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static String decode(ByteBuffer buffer, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the month of a date as a single number without allocating.
+     *
+     * @param epochDay Date as days since 1970-01-01.
+     * @return year * 12 + (month - 1).
+     */
+    static int monthIndex(int epochDay) {
+        int z = epochDay + 719468;
+        int era = (z >= 0 ? z : z - 146096) / 146097;
+        int dayOfEra = z - era * 146097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year * 12 + month - 1;
+    }
+
+    /**
+     * Converts a minute of day to a LocalTime.
+     *
+     * @param minuteOfDay Minute of day, or {@link #NO_TIME}.
+     * @return LocalTime, or null if the punch is missing.
+     */
+    static LocalTime toLocalTime(int minuteOfDay) {
+        return minuteOfDay == NO_TIME ? null : LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    /**
+     * Converts a LocalTime to a minute of day.
+     *
+     * @param time Time to convert, may be null.
+     * @return Minute of day, or {@link #NO_TIME} if time is null.
+     */
+    static int toMinuteOfDay(LocalTime time) {
+        return time == null ? NO_TIME : time.getHour() * 60 + time.getMinute();
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Fixed-point peso arithmetic on long centavos for the MotorPH Payroll System.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+public final class Money {
+    /** Centavos in one peso. */
+    public static final long CENTAVOS_PER_PESO = 100;
+
+    private Money() {
+    }
+
+    /**
+     * Converts a peso amount to centavos, rounding half to even.
+     *
+     * @param pesos Amount in pesos.
+     * @return Amount in centavos.
+     */
+    public static long ofPesos(double pesos) {
+        return (long) Math.rint(pesos * CENTAVOS_PER_PESO);
+    }
+
+    /**
+     * Converts centavos to a peso amount for display or legacy APIs.
+     *
+     * @param centavos Amount in centavos.
+     * @return Amount in pesos.
+     */
+    public static double toPesos(long centavos) {
+        return centavos / (double) CENTAVOS_PER_PESO;
+    }
+
+    /**
+     * Divides two longs, rounding the quotient half to even.
+     *
+     * @param dividend Value to divide.
+     * @param divisor Positive divisor.
+     * @return Rounded quotient.
+     */
+    public static long divideHalfEven(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        long twice = Math.abs(remainder) * 2;
+        if (twice > divisor || (twice == divisor && (quotient & 1) != 0)) {
+            quotient += dividend < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    /**
+     * Multiplies an amount by the fraction numerator / denominator, rounding half to even.
+     *
+     * @param centavos Amount in centavos.
+     * @param numerator Numerator of the factor.
+     * @param denominator Positive denominator of the factor.
+     * @return Scaled amount in centavos.
+     */
+    public static long multiply(long centavos, long numerator, long denominator) {
+        return divideHalfEven(Math.multiplyExact(centavos, numerator), denominator);
+    }
+
+    /**
+     * Formats centavos like {@code String.format("%.2f", pesos)}.
+     *
+     * @param centavos Amount in centavos.
+     * @return Formatted amount (e.g., "-1234.50").
+     */
+    public static String format(long centavos) {
+        StringBuilder sb = new StringBuilder(24);
+        appendTo(sb, centavos);
+        return sb.toString();
+    }
+
+    /**
+     * Appends centavos formatted like {@code String.format("%.2f", pesos)}.
+     *
+     * @param sb Destination.
+     * @param centavos Amount in centavos.
+     * @return The destination.
+     */
+    public static StringBuilder appendTo(StringBuilder sb, long centavos) {
+        if (centavos < 0) {
+            sb.append('-');
+        }
+        long abs = Math.abs(centavos);
+        long cents = abs % CENTAVOS_PER_PESO;
+        sb.append(abs / CENTAVOS_PER_PESO).append('.');
+        if (cents < 10) {
+            sb.append('0');
+        }
+        return sb.append(cents);
+    }
+
+    /**
+     * Appends a peso amount formatted like {@code String.format("%.2f", pesos)} without
+     * going through Formatter. Amounts that are negative, very large or within rounding
+     * error of a half centavo are still passed to Formatter so the text stays identical.
+     *
+     * @param sb Destination.
+     * @param pesos Amount in pesos.
+     * @return The destination.
+     */
+    public static StringBuilder appendPesos(StringBuilder sb, double pesos) {
+        // Below a billion pesos the conversion error of pesos * 100 is under 1e-4 centavo
+        if (!(pesos >= 0 && pesos < 1e9) || Double.doubleToRawLongBits(pesos) < 0) {
+            return sb.append(String.format("%.2f", pesos));
+        }
+        double scaled = pesos * CENTAVOS_PER_PESO;
+        double whole = Math.floor(scaled);
+        double fraction = scaled - whole;
+        if (Math.abs(fraction - 0.5) < 1e-3) {
+            return sb.append(String.format("%.2f", pesos));
+        }
+        return appendTo(sb, (long) whole + (fraction > 0.5 ? 1 : 0));
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Accumulates regular and overtime minutes per employee and month from streamed
+ * attendance rows in the MotorPH Payroll System.
+ *
+ * Memory grows with the number of employee-months, not with the number of rows,
+ * so a multi-year attendance file can be summarised without loading it:
+ * {@code MonthlyMinutes.scan(path)} or {@code stream.forEach(minutes::record)}.
+ *
+ * Totals from {@link #ofRecords(Iterable)} are instead summed from each record's exact
+ * regular and overtime Durations in nanoseconds and only truncated to whole minutes when
+ * read, which matches adding up the Durations of the records.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+public class MonthlyMinutes implements MappedAttendanceReader.RowHandler, AttendanceTotals {
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    private final LongObjectMap<long[]> totals = new LongObjectMap<>();
+    private final long unitsPerMinute;
+
+    /**
+     * Receives the totals of one employee and month.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        /**
+         * Receives the totals of one employee and month.
+         *
+         * @param employeeNumber Employee's unique ID.
+         * @param monthIndex Month number from {@link AttendanceIndex#monthIndex(java.time.YearMonth)}.
+         * @param regularMinutes Regular minutes worked.
+         * @param overtimeMinutes Overtime minutes worked.
+         */
+        void month(int employeeNumber, int monthIndex, long regularMinutes, long overtimeMinutes);
+    }
+
+    /**
+     * Creates empty totals counted in whole minutes per row.
+     */
+    public MonthlyMinutes() {
+        this(1);
+    }
+
+    private MonthlyMinutes(long unitsPerMinute) {
+        this.unitsPerMinute = unitsPerMinute;
+    }
+
+    /**
+     * Sums the exact Durations of a list of records per employee and month in one pass.
+     *
+     * @param records Attendance records in any order.
+     * @return Monthly totals of the records.
+     */
+    public static MonthlyMinutes ofRecords(Iterable<AttendanceRecord> records) {
+        MonthlyMinutes minutes = new MonthlyMinutes(NANOS_PER_MINUTE);
+        for (AttendanceRecord record : records) {
+            minutes.record(record);
+        }
+        return minutes;
+    }
+
+    /**
+     * Streams an attendance CSV file into monthly totals without keeping its rows.
+     *
+     * @param filePath Path to the CSV file.
+     * @return Monthly totals of every valid row.
+     */
+    public static MonthlyMinutes scan(String filePath) {
+        MonthlyMinutes minutes = new MonthlyMinutes();
+        MappedAttendanceReader.scan(filePath, minutes);
+        return minutes;
+    }
+
+    /**
+     * Adds one attendance row to its employee's monthly totals.
+     */
+    @Override
+    public void row(int employeeNumber, int epochDay, int minuteIn, int minuteOut) {
+        add(employeeNumber, MappedAttendanceReader.monthIndex(epochDay),
+                AttendanceRecord.computeRegularMinutes(minuteIn, minuteOut) * unitsPerMinute,
+                AttendanceRecord.computeOvertimeMinutes(minuteIn, minuteOut) * unitsPerMinute);
+    }
+
+    /**
+     * Adds one parsed record, by its exact Durations for totals from {@link #ofRecords(Iterable)}
+     * and as a row otherwise.
+     */
+    @Override
+    public void record(AttendanceRecord record) {
+        if (unitsPerMinute == 1) {
+            MappedAttendanceReader.RowHandler.super.record(record);
+            return;
+        }
+        add(record.getEmployeeNumber(), AttendanceIndex.monthIndex(record.getDate()),
+                record.getRegularDuration().toNanos(), record.getOvertimeDuration().toNanos());
+    }
+
+    private void add(int employeeNumber, int monthIndex, long regular, long overtime) {
+        long key = AttendanceIndex.key(employeeNumber, monthIndex);
+        long[] month = totals.get(key);
+        if (month == null) {
+            month = new long[2];
+            totals.put(key, month);
+        }
+        month[0] += regular;
+        month[1] += overtime;
+    }
+
+    @Override
+    public long regularMinutes(int employeeNumber, int monthIndex) {
+        long[] month = totals.get(AttendanceIndex.key(employeeNumber, monthIndex));
+        return month != null ? month[0] / unitsPerMinute : 0;
+    }
+
+    @Override
+    public long overtimeMinutes(int employeeNumber, int monthIndex) {
+        long[] month = totals.get(AttendanceIndex.key(employeeNumber, monthIndex));
+        return month != null ? month[1] / unitsPerMinute : 0;
+    }
+
+    /**
+     * Gets the number of employee-months with attendance.
+     *
+     * @return Number of employee-months.
+     */
+    public int size() { return totals.size(); }
+
+    /**
+     * Visits every employee-month in ascending order of employee, then month.
+     *
+     * @param visitor Receiver for the totals.
+     */
+    public void forEach(Visitor visitor) {
+        for (long key : totals.sortedKeys()) {
+            long[] month = totals.get(key);
+            visitor.month(AttendanceIndex.employeeOf(key), AttendanceIndex.monthOf(key),
+                    month[0] / unitsPerMinute, month[1] / unitsPerMinute);
+        }
+    }
+}
@@ -9,22 +9,53 @@ import javax.swing.*;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class MotorPHApp {
-    private static List<User> users = new ArrayList<>();
-    private static List<Employee> employees = new ArrayList<>();
-    private static List<AttendanceRecord> attendance = new ArrayList<>();
+    private static final List<User> users = new ArrayList<>();
+    private static final EmployeeRepository employees = new EmployeeRepository();
+    private static volatile AttendanceStore attendance = new AttendanceStore();
+    private static volatile AttendanceJournal attendanceJournal;
+    private static volatile AttendancePartitions attendancePartitions;
+    private static volatile PayrollCache payrollCache = new PayrollCache(attendance);
+
+    private static CompletableFuture<Void> usersReady = CompletableFuture.completedFuture(null);
+    private static CompletableFuture<Void> employeesReady = CompletableFuture.completedFuture(null);
+    private static CompletableFuture<Void> attendanceReady = CompletableFuture.completedFuture(null);
 
     /**
      * Main entry point for the application.
      *
-     * @param args Command-line arguments.
+     * @param args Command-line arguments; {@code --partitions=DIR} loads and saves attendance
+     *             in a month-partitioned directory instead of the attendance CSV.
      */
     public static void main(String[] args) {
-        // Set look and feel and initialize UI on the EDT
+        Path partitionDirectory = null;
+        for (String arg : args) {
+            if (arg.startsWith("--partitions=")) {
+                partitionDirectory = Path.of(arg.substring("--partitions=".length()));
+            } else {
+                System.err.println("Ignoring unknown option: " + arg);
+            }
+        }
+        Path partitions = partitionDirectory;
+
+        // Drop temp files from saves that were interrupted; the files they were replacing are intact
+        AtomicFileWriter.recover(Path.of("src/main/resources"));
+
+        // Start loading users, employees and attendance in parallel before the UI exists
+        StartupLoader loader = new StartupLoader(3);
+        usersReady = loader.submit(() -> loadUsers("src/main/resources/users.csv"));
+        employeesReady = loader.submit(() -> loadEmployees("src/main/resources/employeedata.csv"));
+        attendanceReady = loader.submit(() -> partitions != null
+                ? loadAttendancePartitions(partitions)
+                : loadAttendance("src/main/resources/attendancerecord.csv"));
+
+        // Set look and feel and show the login UI on the EDT while data loads
         SwingUtilities.invokeLater(() -> {
             // Set cross-platform look and feel
             try {
@@ -39,85 +70,168 @@ public class MotorPHApp {
                 }
             }
 
-            // Load employee and attendance data
-            try {
-                employees = CSVHandler.readEmployeesFromCSV("src/main/resources/employeedata.csv");
-                attendance = CSVHandler.readAttendanceCSV("src/main/resources/attendancerecord.csv");
-                System.out.println("Loaded " + employees.size() + " employees from CSV");
-                System.out.println("Loaded " + attendance.size() + " attendance records from CSV");
-            } catch (Exception e) {
-                System.err.println("Error loading CSV files: " + e.getMessage());
+            // Create and show the login UI
+            UserLogin login = new UserLogin(users);
+            login.setVisible(true);
+            loader.showProgress(login);
+            loader.execute();
+        });
+    }
+
+    /**
+     * Loads employee data from its snapshot, or from the CSV if the snapshot is missing or stale,
+     * adding a test employee if none could be read.
+     *
+     * @param filePath Path to the employee CSV file.
+     * @return Status message.
+     */
+    private static String loadEmployees(String filePath) {
+        String source = "snapshot";
+        try {
+            List<Employee> loaded = DataSnapshot.loadEmployees(filePath);
+            if (loaded == null) {
+                source = "CSV";
+                loaded = CSVHandler.readEmployeesFromCSV(filePath);
+                if (!loaded.isEmpty()) {
+                    DataSnapshot.saveEmployees(loaded, filePath);
+                }
             }
+            employees.replaceAll(loaded);
+        } catch (Exception e) {
+            System.err.println("Error loading CSV files: " + e.getMessage());
+        }
 
-            if (employees.isEmpty()) {
-                System.out.println("No employees loaded, adding test employee");
-                GovernmentDetails gov = new GovernmentDetails("123456789", "987654321", "111222333", "444555666");
-                CompensationDetails comp = new CompensationDetails(50000.0, 1000.0, 500.0, 300.0, 25000.0, 250.0);
-                employees.add(new Employee(10001, "Doe", "John", LocalDate.of(1990, 1, 1), "Staff", "Active", comp, gov));
+        if (employees.isEmpty()) {
+            System.out.println("No employees loaded, adding test employee");
+            GovernmentDetails gov = new GovernmentDetails("123456789", "987654321", "111222333", "444555666");
+            CompensationDetails comp = new CompensationDetails(50000.0, 1000.0, 500.0, 300.0, 25000.0, 250.0);
+            employees.put(new Employee(10001, "Doe", "John", LocalDate.of(1990, 1, 1), "Staff", "Active", comp, gov));
+        }
+        return "Loaded " + employees.size() + " employees from " + source;
+    }
+
+    /**
+     * Loads attendance data from its snapshot, or from the CSV if the snapshot is missing or stale,
+     * and replays the changes journaled since the CSV was last compacted.
+     *
+     * @param filePath Path to the attendance CSV file.
+     * @return Status message.
+     */
+    private static String loadAttendance(String filePath) {
+        String source = "snapshot";
+        try {
+            AttendanceStore loaded = DataSnapshot.loadAttendance(filePath);
+            if (loaded == null) {
+                source = "CSV";
+                loaded = AttendanceStore.load(filePath);
+                if (loaded.size() > 0) {
+                    DataSnapshot.saveAttendance(loaded, filePath);
+                }
             }
+            try {
+                AttendanceJournal journal = new AttendanceJournal(filePath);
+                int replayed = journal.replay(loaded);
+                if (replayed > 0) {
+                    System.out.println("Replayed " + replayed + " journaled attendance changes");
+                }
+                journal.compactIfNeeded();
+                attendanceJournal = journal;
+            } catch (IOException e) {
+                System.err.println("Error opening attendance journal, changes will rewrite the CSV: " + e.getMessage());
+            }
+            payrollCache = new PayrollCache(loaded);
+            attendance = loaded;
+        } catch (Exception e) {
+            System.err.println("Error loading CSV files: " + e.getMessage());
+        }
+        return "Loaded " + attendance.size() + " attendance records from " + source;
+    }
+
+    /**
+     * Loads every month of a partitioned attendance directory. Changes are saved back to
+     * the partitions of the months they touch, so there is no journal.
+     *
+     * @param directory Directory holding the partitions and their manifest.
+     * @return Status message.
+     */
+    private static String loadAttendancePartitions(Path directory) {
+        try {
+            AttendancePartitions opened = AttendancePartitions.open(directory);
+            AttendanceStore loaded = opened.loadAll();
+            attendancePartitions = opened;
+            payrollCache = new PayrollCache(loaded);
+            attendance = loaded;
+        } catch (Exception e) {
+            System.err.println("Error loading attendance partitions: " + e.getMessage());
+        }
+        return "Loaded " + attendance.size() + " attendance records from partitions in " + directory;
+    }
 
-            // Load user data
-            try (BufferedReader br = new BufferedReader(new FileReader("src/main/resources/users.csv"))) {
-                String line;
-                boolean isFirstLine = true;
+    /**
+     * Loads user data, falling back to a default admin user if the file cannot be read.
+     *
+     * @param filePath Path to the users CSV file.
+     * @return Status message.
+     */
+    private static String loadUsers(String filePath) {
+        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
+            String line;
+            boolean isFirstLine = true;
 
-                while ((line = br.readLine()) != null) {
-                    if (isFirstLine) {
-                        String[] header = parseCSVLine(line).toArray(new String[0]);
-                        if (header.length != 2) {
-                            throw new IOException("Invalid header in users.csv: expected exactly 2 columns (username,password)");
-                        }
-                        String[] expectedHeader = {"username", "password"};
-                        for (int i = 0; i < expectedHeader.length; i++) {
-                            if (!header[i].trim().equalsIgnoreCase(expectedHeader[i])) {
-                                throw new IOException("Invalid header in users.csv: expected " + expectedHeader[i] + ", found " + header[i]);
-                            }
+            while ((line = br.readLine()) != null) {
+                if (isFirstLine) {
+                    String[] header = parseCSVLine(line).toArray(new String[0]);
+                    if (header.length != 2) {
+                        throw new IOException("Invalid header in users.csv: expected exactly 2 columns (username,password)");
+                    }
+                    String[] expectedHeader = {"username", "password"};
+                    for (int i = 0; i < expectedHeader.length; i++) {
+                        if (!header[i].trim().equalsIgnoreCase(expectedHeader[i])) {
+                            throw new IOException("Invalid header in users.csv: expected " + expectedHeader[i] + ", found " + header[i]);
                         }
-                        isFirstLine = false;
-                        continue;
                     }
+                    isFirstLine = false;
+                    continue;
+                }
+
+                List<String> values = parseCSVLine(line);
 
-                    List<String> values = parseCSVLine(line);
-
-                    if (values.size() == 2) {
-                        try {
-                            String username = values.get(0).trim();
-                            String password = values.get(1).trim();
-
-                            if (username.isEmpty()) {
-                                System.err.println("Empty username in line: " + line);
-                                continue;
-                            }
-                            if (password.isEmpty()) {
-                                System.err.println("Empty password in line: " + line);
-                                continue;
-                            }
-
-                            String email = username.equals("admin") ? "admin@motorph.com" : username + "@motorph.com";
-                            String role = username.equals("admin") ? "Admin" : "Employee";
-                            String status = "Active";
-
-                            users.add(new User(username, password, email, null, role, status));
-                        } catch (Exception e) {
-                            System.err.println("Error parsing user line: " + line + ", Error: " + e.getMessage());
+                if (values.size() == 2) {
+                    try {
+                        String username = values.get(0).trim();
+                        String password = values.get(1).trim();
+
+                        if (username.isEmpty()) {
+                            System.err.println("Empty username in line: " + line);
+                            continue;
+                        }
+                        if (password.isEmpty()) {
+                            System.err.println("Empty password in line: " + line);
+                            continue;
                         }
-                    } else {
-                        System.err.println("Invalid user row (expected 2 columns, found " + values.size() + "): " + line);
+
+                        String email = username.equals("admin") ? "admin@motorph.com" : username + "@motorph.com";
+                        String role = username.equals("admin") ? "Admin" : "Employee";
+                        String status = "Active";
+
+                        users.add(new User(username, password, email, null, role, status));
+                    } catch (Exception e) {
+                        System.err.println("Error parsing user line: " + line + ", Error: " + e.getMessage());
                     }
+                } else {
+                    System.err.println("Invalid user row (expected 2 columns, found " + values.size() + "): " + line);
                 }
-                System.out.println("Loaded " + users.size() + " users from CSV");
-            } catch (IOException e) {
-                System.err.println("Error reading users CSV: " + e.getMessage());
-                System.out.println("No users loaded, adding default admin user");
-                users.add(new User("admin", "admin123", "admin@motorph.com", null, "Admin", "Active"));
-                JOptionPane.showMessageDialog(null,
-                        "Failed to load user data: " + e.getMessage() + ". Using default admin user.",
-                        "CSV Error", JOptionPane.ERROR_MESSAGE);
             }
-
-            // Create and show the login UI
-            new UserLogin(users).setVisible(true);
-        });
+            return "Loaded " + users.size() + " users from CSV";
+        } catch (IOException e) {
+            System.err.println("Error reading users CSV: " + e.getMessage());
+            System.out.println("No users loaded, adding default admin user");
+            users.add(new User("admin", "admin123", "admin@motorph.com", null, "Admin", "Active"));
+            SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(null,
+                    "Failed to load user data: " + e.getMessage() + ". Using default admin user.",
+                    "CSV Error", JOptionPane.ERROR_MESSAGE));
+            return "Using default admin user";
+        }
     }
 
     /**
@@ -146,7 +260,7 @@ public class MotorPHApp {
     }
 
     /**
-     * Gets the list of users.
+     * Gets the list of users. Wait on {@link #getUsersReady()} before reading it.
      *
      * @return List of users.
      */
@@ -155,20 +269,84 @@ public class MotorPHApp {
     }
 
     /**
-     * Gets the list of employees.
+     * Gets the employee repository. Wait on {@link #getEmployeesReady()} before reading it.
      *
-     * @return List of employees.
+     * @return Employee repository.
      */
-    public static List<Employee> getEmployees() {
+    public static EmployeeRepository getEmployees() {
         return employees;
     }
 
     /**
-     * Gets the list of attendance records.
+     * Gets the attendance store. Wait on {@link #getAttendanceReady()} before reading it.
      *
-     * @return List of attendance records.
+     * @return Attendance store.
      */
-    public static List<AttendanceRecord> getAttendance() {
+    public static AttendanceStore getAttendance() {
         return attendance;
     }
+
+    /**
+     * Gets the cache of payroll reports computed from the attendance store.
+     *
+     * @return Payroll cache over {@link #getAttendance()}.
+     */
+    public static PayrollCache getPayrollCache() {
+        return payrollCache;
+    }
+
+    /**
+     * Gets the partitioned attendance directory the application was started with.
+     * Wait on {@link #getAttendanceReady()} before using it.
+     *
+     * @return Attendance partitions, or null if attendance is kept in the single CSV.
+     */
+    public static AttendancePartitions getAttendancePartitions() {
+        return attendancePartitions;
+    }
+
+    /**
+     * Gets the journal that records attendance changes. Wait on {@link #getAttendanceReady()} before using it.
+     *
+     * @return Attendance journal, or null if it could not be opened and the CSV must be rewritten instead.
+     */
+    public static AttendanceJournal getAttendanceJournal() {
+        return attendanceJournal;
+    }
+
+    /**
+     * Gets the future completed once users are loaded.
+     *
+     * @return Users readiness future.
+     */
+    public static CompletableFuture<Void> getUsersReady() {
+        return usersReady;
+    }
+
+    /**
+     * Gets the future completed once employees are loaded.
+     *
+     * @return Employees readiness future.
+     */
+    public static CompletableFuture<Void> getEmployeesReady() {
+        return employeesReady;
+    }
+
+    /**
+     * Gets the future completed once attendance records are loaded.
+     *
+     * @return Attendance readiness future.
+     */
+    public static CompletableFuture<Void> getAttendanceReady() {
+        return attendanceReady;
+    }
+
+    /**
+     * Gets the future completed once employees and attendance records are loaded.
+     *
+     * @return Data readiness future.
+     */
+    public static CompletableFuture<Void> getDataReady() {
+        return CompletableFuture.allOf(employeesReady, attendanceReady);
+    }
 }
\ No newline at end of file
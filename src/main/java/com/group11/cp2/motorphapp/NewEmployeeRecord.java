@@ -6,13 +6,12 @@
 package com.group11.cp2.motorphapp;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.util.List;
 import java.time.LocalDate;
 
 public class NewEmployeeRecord extends javax.swing.JFrame {
-    private List<Employee> employees;
-    private DefaultTableModel tableModel;
+    private EmployeeRepository employees;
+    private EmployeeTableModel tableModel;
 
     /**
      * Creates new form NewEmployeeRecord with default constructor.
@@ -22,12 +21,12 @@ public class NewEmployeeRecord extends javax.swing.JFrame {
     }
 
     /**
-     * Creates new form with employee list and table model.
+     * Creates new form with employee repository and table model.
      *
-     * @param employees List of employees to update.
+     * @param employees Employee repository to update.
      * @param tableModel Dashboard table model to update.
      */
-    public NewEmployeeRecord(List<Employee> employees, DefaultTableModel tableModel) {
+    public NewEmployeeRecord(EmployeeRepository employees, EmployeeTableModel tableModel) {
         this.employees = employees;
         this.tableModel = tableModel;
         initComponents();
@@ -44,19 +43,15 @@ public class NewEmployeeRecord extends javax.swing.JFrame {
         if (employees != null) {
             List<Employee> latestEmployees = CSVHandler.readEmployeesFromCSV("src/main/resources/employeedata.csv");
             if (latestEmployees != null) {
-                employees.clear();
-                employees.addAll(latestEmployees);
+                employees.replaceAll(latestEmployees);
+                if (tableModel != null) {
+                    tableModel.reload();
+                }
             } else {
                 System.err.println("Warning: CSVHandler.readEmployeesFromCSV returned null");
             }
 
-            int nextEmpNumber = 10001;
-            if (!employees.isEmpty()) {
-                nextEmpNumber = employees.stream()
-                        .mapToInt(Employee::getEmployeeNumber)
-                        .max()
-                        .orElse(10000) + 1;
-            }
+            int nextEmpNumber = employees.maxEmployeeNumber(10000) + 1;
             jTextField2.setText(String.valueOf(nextEmpNumber));
         } else {
             jTextField2.setText("Auto-generated");
@@ -431,7 +426,7 @@ public class NewEmployeeRecord extends javax.swing.JFrame {
                 System.out.println("Validation failed: Invalid ID numbers");
                 return;
             }
-            if (employees.stream().anyMatch(e -> e.getEmployeeNumber() == empNumber)) {
+            if (employees.contains(empNumber)) {
                 JOptionPane.showMessageDialog(this, "Employee number already exists.", "Error", JOptionPane.ERROR_MESSAGE);
                 System.out.println("Validation failed: Duplicate employee number");
                 return;
@@ -448,8 +443,12 @@ public class NewEmployeeRecord extends javax.swing.JFrame {
                     ", TIN: " + gov.getTinNumber() +
                     ", PagIbig: " + gov.getPagIbigNumber());
 
-            // Add to employees
-            employees.add(emp);
+            // Add to employees, appending the row when opened from the Dashboard
+            if (tableModel != null) {
+                tableModel.addEmployee(emp);
+            } else {
+                employees.put(emp);
+            }
             System.out.println("Employee added to list: " + empNumber);
 
             // Create and add User
@@ -484,15 +483,6 @@ public class NewEmployeeRecord extends javax.swing.JFrame {
 
             // Update table
             if (tableModel != null) {
-                tableModel.addRow(new Object[]{
-                        emp.getEmployeeNumber(),
-                        emp.getLastName(),
-                        emp.getFirstName(),
-                        gov.getSssNumber(),
-                        gov.getPhilHealthNumber(),
-                        gov.getTinNumber(),
-                        gov.getPagIbigNumber()
-                });
                 System.out.println("Table updated with employee: " + empNumber);
             } else {
                 System.err.println("tableModel is null in Save");
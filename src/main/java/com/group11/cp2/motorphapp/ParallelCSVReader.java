@@ -0,0 +1,213 @@
+/**
+ * Parses CSV files in parallel chunks for the MotorPH Payroll System.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+public class ParallelCSVReader {
+
+    private static final long MIN_CHUNK_SIZE = 1L << 20;
+    private static final long MAX_CHUNK_SIZE = 1L << 28;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * Parses a single line of a chunk.
+     *
+     * @param <T> Type of parsed row.
+     */
+    interface LineParser<T> {
+        /**
+         * Parses the bytes of one line, excluding the line terminator.
+         *
+         * @return Parsed row, or null if the line is invalid.
+         */
+        T parse(ByteBuffer buffer, int start, int end, Chunk<T> chunk);
+    }
+
+    static final LineParser<Employee> EMPLOYEE_PARSER = (buffer, start, end, chunk) ->
+            CSVHandler.parseEmployeeLine(MappedAttendanceReader.decode(buffer, start, end), chunk);
+
+    static final LineParser<AttendanceRecord> ATTENDANCE_PARSER = (buffer, start, end, chunk) ->
+            MappedAttendanceReader.parseRecord(buffer, start, end, chunk.scratch, chunk);
+
+    /**
+     * Reads a CSV file by splitting it into newline-aligned byte ranges and
+     * parsing them on the common ForkJoinPool. Rows are returned in file
+     * order and error messages are printed in file order with their line number.
+     *
+     * @param filePath Path to the CSV file.
+     * @param kind Name of the file contents used in error messages.
+     * @param parser Parser for a single line.
+     * @return Parsed rows in file order.
+     */
+    static <T> List<T> read(String filePath, String kind, LineParser<T> parser) {
+        List<Chunk<T>> chunks;
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            chunks = split(channel);
+            ForkJoinPool.commonPool().invoke(new ParseTask<>(channel, chunks, 0, chunks.size(), parser));
+        } catch (IOException e) {
+            System.err.println("Error reading " + kind + " CSV: " + e.getMessage());
+            return new ArrayList<>();
+        }
+
+        int total = 0;
+        for (Chunk<T> chunk : chunks) {
+            if (chunk.failure != null) {
+                System.err.println("Error reading " + kind + " CSV: " + chunk.failure.getMessage());
+                return new ArrayList<>();
+            }
+            total += chunk.results.size();
+        }
+
+        List<T> rows = new ArrayList<>(total);
+        int firstLine = 2; // Line 1 is the header
+        for (Chunk<T> chunk : chunks) {
+            for (int i = 0; i < chunk.errorMessages.size(); i++) {
+                System.err.println("Line " + (firstLine + chunk.errorLines.get(i)) + ": " + chunk.errorMessages.get(i));
+            }
+            rows.addAll(chunk.results);
+            firstLine += chunk.lines;
+        }
+        return rows;
+    }
+
+    /**
+     * Splits the data rows of a file into chunks that start right after a newline.
+     */
+    private static <T> List<Chunk<T>> split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long dataStart = nextLineStart(channel, 0, size);
+        int target = ForkJoinPool.commonPool().getParallelism() * CHUNKS_PER_THREAD;
+        long chunkSize = Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, (size - dataStart) / target + 1));
+
+        List<Chunk<T>> chunks = new ArrayList<>();
+        long start = dataStart;
+        while (start < size) {
+            long end = start + chunkSize >= size ? size : nextLineStart(channel, start + chunkSize, size);
+            chunks.add(new Chunk<>(start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * Finds the offset just past the first newline at or after a position.
+     */
+    private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * A newline-aligned byte range of the file and the rows parsed from it.
+     *
+     * @param <T> Type of parsed row.
+     */
+    static final class Chunk<T> implements Consumer<String> {
+        final long start;
+        final long end;
+        final int[] scratch = new int[4];
+        final List<T> results = new ArrayList<>();
+        final List<Integer> errorLines = new ArrayList<>();
+        final List<String> errorMessages = new ArrayList<>();
+        int lines;
+        IOException failure;
+
+        Chunk(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Records an error message for the line currently being parsed.
+         *
+         * @param message Error message.
+         */
+        @Override
+        public void accept(String message) {
+            errorLines.add(lines);
+            errorMessages.add(message);
+        }
+
+        void parse(FileChannel channel, LineParser<T> parser) {
+            try {
+                int limit = (int) (end - start);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, limit);
+                int lineStart = 0;
+                while (lineStart < limit) {
+                    int lineEnd = lineStart;
+                    while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                        lineEnd++;
+                    }
+                    int contentEnd = lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+                    T row = parser.parse(buffer, lineStart, contentEnd, this);
+                    if (row != null) {
+                        results.add(row);
+                    }
+                    lines++;
+                    lineStart = lineEnd + 1;
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+    }
+
+    /**
+     * Parses a range of chunks, splitting the range in half until one chunk remains.
+     */
+    private static final class ParseTask<T> extends RecursiveAction {
+        private final FileChannel channel;
+        private final List<Chunk<T>> chunks;
+        private final int from;
+        private final int to;
+        private final LineParser<T> parser;
+
+        ParseTask(FileChannel channel, List<Chunk<T>> chunks, int from, int to, LineParser<T> parser) {
+            this.channel = channel;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.parser = parser;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (to > from) {
+                    chunks.get(from).parse(channel, parser);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ParseTask<>(channel, chunks, from, mid, parser),
+                    new ParseTask<>(channel, chunks, mid, to, parser));
+        }
+    }
+}
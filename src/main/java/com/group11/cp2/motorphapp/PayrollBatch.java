@@ -0,0 +1,199 @@
+/**
+ * Headless command-line payroll run for the MotorPH Payroll System, for scheduled jobs on
+ * servers without a display.
+ *
+ * Loads employees and attendance (from their snapshots when current, replaying journaled
+ * attendance changes), pays every employee for each month of a period and writes one
+ * payslip file per month, a payroll register and a list of failures to the output
+ * directory. Nothing here references Swing or AWT, so those classes are never loaded.
+ *
+ * Usage: PayrollBatch [--option=value ...]
+ *   --employees=FILE   Employee CSV file (src/main/resources/employeedata.csv)
+ *   --attendance=FILE  Attendance CSV file (src/main/resources/attendancerecord.csv)
+ *   --partitions=DIR   Month-partitioned attendance directory to read instead of the CSV;
+ *                      only the partitions of the period are opened
+ *   --from=yyyy-MM     First month to pay (the previous month)
+ *   --to=yyyy-MM       Last month to pay (same as --from)
+ *   --out=DIR          Output directory (target/payroll)
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class PayrollBatch {
+    private static final String REGISTER_HEADER = "Month,Employee Number,Last Name,First Name,Regular Minutes,Overtime Minutes,"
+            + "Base Pay,Overtime Pay,Gross Pay,SSS,PhilHealth,Pag-IBIG,Withholding Tax,Allowances,Total Deductions,Net Pay";
+
+    /**
+     * Runs payroll from the command line.
+     *
+     * @param args Options in the form --name=value; see the class description.
+     */
+    public static void main(String[] args) {
+        String employeePath = "src/main/resources/employeedata.csv";
+        String attendancePath = "src/main/resources/attendancerecord.csv";
+        Path partitions = null;
+        YearMonth from = YearMonth.now().minusMonths(1);
+        YearMonth to = null;
+        Path out = Path.of("target/payroll");
+        try {
+            for (String arg : args) {
+                int equals = arg.indexOf('=');
+                if (!arg.startsWith("--") || equals < 0) {
+                    throw new IllegalArgumentException("Expected --name=value: " + arg);
+                }
+                String value = arg.substring(equals + 1);
+                switch (arg.substring(2, equals)) {
+                    case "employees": employeePath = value; break;
+                    case "attendance": attendancePath = value; break;
+                    case "partitions": partitions = Path.of(value); break;
+                    case "from": from = YearMonth.parse(value); break;
+                    case "to": to = YearMonth.parse(value); break;
+                    case "out": out = Path.of(value); break;
+                    default: throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+            if (to == null) {
+                to = from;
+            }
+            if (to.isBefore(from)) {
+                throw new IllegalArgumentException("Invalid payroll period: " + from + " is after " + to);
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        try {
+            long started = System.nanoTime();
+            EmployeeRepository employees = loadEmployees(employeePath);
+            AttendanceStore attendance = partitions != null
+                    ? AttendancePartitions.open(partitions).load(from, to)
+                    : loadAttendance(attendancePath);
+            long loaded = System.nanoTime();
+            System.out.println("Loaded " + employees.size() + " employees and " + attendance.size()
+                    + " attendance records in " + millis(started, loaded) + " ms");
+
+            PayrollRun.Result result = new PayrollRun(employees, attendance).run(from, to);
+            long paid = System.nanoTime();
+            System.out.println(result);
+            for (PayrollRun.Failure failure : result.getFailures()) {
+                System.err.println(failure);
+            }
+
+            int files = write(result, out);
+            long written = System.nanoTime();
+            System.out.println("Wrote " + files + " files to " + out + " in " + millis(paid, written) + " ms");
+
+            double seconds = (written - started) / 1e9;
+            System.out.printf("Total %d ms: load %d ms, payroll %d ms, write %d ms; %.0f reports/s end to end%n",
+                    millis(started, written), millis(started, loaded), millis(loaded, paid), millis(paid, written),
+                    result.getReports().size() / seconds);
+        } catch (IOException e) {
+            System.err.println("Error writing payroll output: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Loads employees from their snapshot, or from the CSV if the snapshot is missing or stale.
+     */
+    static EmployeeRepository loadEmployees(String filePath) {
+        List<Employee> loaded = DataSnapshot.loadEmployees(filePath);
+        return EmployeeRepository.of(loaded != null ? loaded : CSVHandler.readEmployeesFromCSV(filePath));
+    }
+
+    /**
+     * Loads attendance from its snapshot, or from the CSV if the snapshot is missing or stale,
+     * and applies the changes journaled since the CSV was last compacted. Files are only read.
+     */
+    static AttendanceStore loadAttendance(String filePath) {
+        AttendanceStore loaded = DataSnapshot.loadAttendance(filePath);
+        if (loaded == null) {
+            loaded = AttendanceStore.load(filePath);
+        }
+        try (AttendanceJournal journal = new AttendanceJournal(filePath)) {
+            int replayed = journal.replay(loaded);
+            if (replayed > 0) {
+                System.out.println("Replayed " + replayed + " journaled attendance changes");
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading attendance journal, using the CSV alone: " + e.getMessage());
+        }
+        return loaded;
+    }
+
+    /**
+     * Writes the payslips of each month, the register and the failures of a run.
+     *
+     * @return Number of files written.
+     */
+    private static int write(PayrollRun.Result result, Path out) throws IOException {
+        Files.createDirectories(out);
+        List<PayrollReport> reports = result.getReports();
+        int firstMonth = AttendanceIndex.monthIndex(result.getFrom());
+        List<List<PayrollReport>> byMonth = new ArrayList<>();
+        for (int m = firstMonth; m <= AttendanceIndex.monthIndex(result.getTo()); m++) {
+            byMonth.add(new ArrayList<>());
+        }
+        for (PayrollReport report : reports) {
+            byMonth.get(AttendanceIndex.monthIndex(report.getYearMonth()) - firstMonth).add(report);
+        }
+        for (int m = 0; m < byMonth.size(); m++) {
+            List<PayrollReport> monthReports = byMonth.get(m);
+            AtomicFileWriter.write(out.resolve("payslips-" + AttendanceIndex.toYearMonth(firstMonth + m) + ".txt"), writer -> {
+                for (PayrollReport report : monthReports) {
+                    writer.write(report.toString());
+                    writer.newLine();
+                }
+            });
+        }
+        AtomicFileWriter.write(out.resolve("register.csv"), writer -> writeRegister(reports, writer));
+        AtomicFileWriter.write(out.resolve("failures.txt"), writer -> {
+            for (PayrollRun.Failure failure : result.getFailures()) {
+                writer.write(failure.toString());
+                writer.newLine();
+            }
+        });
+        return byMonth.size() + 2;
+    }
+
+    /**
+     * Writes one CSV row of centavo-exact amounts per report.
+     */
+    private static void writeRegister(List<PayrollReport> reports, BufferedWriter writer) throws IOException {
+        writer.write(REGISTER_HEADER);
+        writer.newLine();
+        StringBuilder sb = new StringBuilder(256);
+        for (PayrollReport report : reports) {
+            Employee employee = report.getEmployee();
+            Payslip payslip = report.getPayslip();
+            sb.setLength(0);
+            sb.append(report.getYearMonth()).append(',').append(employee.getEmployeeNumber()).append(',')
+                    .append(employee.getLastName()).append(',').append(employee.getFirstName()).append(',');
+            sb.append(Math.round(report.getMonthlyRegularHours() * 60)).append(',')
+                    .append(Math.round(report.getMonthlyOvertimeHours() * 60));
+            for (long centavos : new long[] {payslip.getBasePay(), payslip.getOvertimePay(), payslip.getGrossPay(),
+                    payslip.getSss(), payslip.getPhilHealth(), payslip.getPagIbig(), payslip.getWithholdingTax(),
+                    payslip.getAllowances(), payslip.getTotalDeductions(), payslip.getNetPay()}) {
+                Money.appendTo(sb.append(','), centavos);
+            }
+            writer.append(sb);
+            writer.newLine();
+        }
+    }
+
+    private static long millis(long from, long to) {
+        return (to - from) / 1_000_000;
+    }
+}
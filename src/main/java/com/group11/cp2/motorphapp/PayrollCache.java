@@ -0,0 +1,176 @@
+/**
+ * Caches payroll reports by employee and month for the MotorPH Payroll System.
+ *
+ * A report is computed only from its employee's attendance in the month, the employee's
+ * compensation and the statutory rates for the month, and the cache tracks each of them:
+ * adding or removing an attendance row drops the entry for that employee and month, and
+ * an entry is only reused for the same Employee object with the same hourly rate, basic
+ * salary and allowances, under the same rate tables. A reused report is therefore the
+ * one a fresh PayrollReport would produce.
+ *
+ * Only months in which the employee has attendance are cached, so the number of entries
+ * is bounded by the attendance store rather than by the months callers ask about; reports
+ * of other months are computed each time, which is cheap since they have no rows to sum.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.time.YearMonth;
+
+public final class PayrollCache implements AttendanceStore.ChangeListener {
+    private final AttendanceStore attendance;
+    private final LongObjectMap<LongObjectMap<Entry>> entriesByEmployee = new LongObjectMap<>();
+    private long invalidations;
+    private long hits;
+    private long misses;
+
+    /**
+     * A report with the inputs it was computed from, apart from attendance.
+     */
+    private static final class Entry {
+        PayrollReport report;
+        final Employee employee;
+        final StatutoryRates rates;
+        final double hourlyRate;
+        final double basicSalary;
+        final double riceSubsidy;
+        final double phoneAllowance;
+        final double clothingAllowance;
+
+        Entry(Employee employee, StatutoryRates rates, CompensationDetails comp) {
+            this.employee = employee;
+            this.rates = rates;
+            this.hourlyRate = comp.getHourlyRate();
+            this.basicSalary = comp.getBasicSalary();
+            this.riceSubsidy = comp.getRiceSubsidy();
+            this.phoneAllowance = comp.getPhoneAllowance();
+            this.clothingAllowance = comp.getClothingAllowance();
+        }
+
+        boolean isValidFor(Employee employee, StatutoryRates rates) {
+            CompensationDetails comp = employee.getCompensationDetails();
+            return this.employee == employee && this.rates == rates && comp != null
+                    && same(hourlyRate, comp.getHourlyRate())
+                    && same(basicSalary, comp.getBasicSalary())
+                    && same(riceSubsidy, comp.getRiceSubsidy())
+                    && same(phoneAllowance, comp.getPhoneAllowance())
+                    && same(clothingAllowance, comp.getClothingAllowance());
+        }
+
+        private static boolean same(double a, double b) {
+            return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+        }
+    }
+
+    /**
+     * Creates a cache over an attendance store and starts listening to its changes.
+     *
+     * @param attendance Attendance store the reports are computed from.
+     */
+    public PayrollCache(AttendanceStore attendance) {
+        this.attendance = attendance;
+        attendance.addChangeListener(this);
+    }
+
+    /**
+     * Gets the attendance store the reports are computed from.
+     *
+     * @return Attendance store.
+     */
+    public AttendanceStore getAttendance() { return attendance; }
+
+    /**
+     * Gets the payroll report of an employee for a month, computing it only if no valid
+     * report is cached. Safe to call from several threads while the store is not being changed.
+     *
+     * @param employee Employee for the report.
+     * @param yearMonth Year and month for the report.
+     * @return Payroll report identical to {@code new PayrollReport(employee, yearMonth, attendance)}.
+     * @throws IllegalArgumentException If hourly rate or hours are invalid; failures are not cached.
+     */
+    public PayrollReport get(Employee employee, YearMonth yearMonth) {
+        int employeeNumber = employee.getEmployeeNumber();
+        int monthIndex = AttendanceIndex.monthIndex(yearMonth);
+        StatutoryRates rates = RateSchedule.getDefault().forMonth(yearMonth);
+        long seenInvalidations;
+        synchronized (this) {
+            LongObjectMap<Entry> months = entriesByEmployee.get(employeeNumber);
+            Entry entry = months != null ? months.get(monthIndex) : null;
+            if (entry != null && entry.isValidFor(employee, rates)) {
+                hits++;
+                return entry.report;
+            }
+            misses++;
+            seenInvalidations = invalidations;
+        }
+
+        // Inputs are captured before computing, so a change made meanwhile fails validation later
+        CompensationDetails comp = employee.getCompensationDetails();
+        Entry computed = comp != null ? new Entry(employee, rates, comp) : null;
+        PayrollReport report = new PayrollReport(employee, yearMonth,
+                attendance.regularMinutes(employeeNumber, monthIndex),
+                attendance.overtimeMinutes(employeeNumber, monthIndex));
+        if (computed == null || attendance.getIndex().slice(employeeNumber, monthIndex).size() == 0) {
+            return report;
+        }
+        computed.report = report;
+
+        synchronized (this) {
+            // Attendance that changed while the report was computed may not be in it
+            if (invalidations == seenInvalidations) {
+                LongObjectMap<Entry> months = entriesByEmployee.get(employeeNumber);
+                if (months == null) {
+                    months = new LongObjectMap<>();
+                    entriesByEmployee.put(employeeNumber, months);
+                }
+                months.put(monthIndex, computed);
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Drops the cached report of an employee and month whose attendance changed.
+     */
+    @Override
+    public synchronized void attendanceChanged(int employeeNumber, int monthIndex) {
+        invalidations++;
+        LongObjectMap<Entry> months = entriesByEmployee.get(employeeNumber);
+        if (months != null && months.remove(monthIndex) != null && months.size() == 0) {
+            entriesByEmployee.remove(employeeNumber);
+        }
+    }
+
+    /**
+     * Drops every cached report of an employee, such as one who was deleted.
+     *
+     * @param employeeNumber Employee's unique ID.
+     */
+    public synchronized void invalidateEmployee(int employeeNumber) {
+        invalidations++;
+        entriesByEmployee.remove(employeeNumber);
+    }
+
+    /**
+     * Drops every cached report.
+     */
+    public synchronized void clear() {
+        invalidations++;
+        entriesByEmployee.clear();
+    }
+
+    /**
+     * Gets the number of reports returned from the cache.
+     *
+     * @return Cache hits.
+     */
+    public synchronized long getHits() { return hits; }
+
+    /**
+     * Gets the number of reports that had to be computed.
+     *
+     * @return Cache misses.
+     */
+    public synchronized long getMisses() { return misses; }
+}
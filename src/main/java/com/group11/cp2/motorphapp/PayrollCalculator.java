@@ -0,0 +1,131 @@
+/**
+ * Calculates pay and statutory deductions in centavos for the MotorPH Payroll System.
+ *
+ * Every amount is a long number of centavos and every product is rounded half to even,
+ * so a calculation allocates nothing and totals reconcile to the centavo.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+public final class PayrollCalculator {
+    private static final long OVERTIME_RATE_PERCENT = 125;
+
+    private static final long SSS_FIRST_LIMIT = 325000;
+    private static final long SSS_BRACKET_WIDTH = 50000;
+    // Contribution for salaries below 3250, 3750, ..., 24750 PHP
+    private static final long[] SSS_CONTRIBUTIONS = {
+        13500, 15750, 18000, 20250, 22500, 24750, 27000, 29250, 31500, 33750,
+        36000, 38250, 40500, 42750, 45000, 47250, 49500, 51750, 54000, 56250,
+        58500, 60750, 63000, 65250, 67500, 69750, 72000, 74250, 76500, 78750,
+        81000, 83250, 85500, 87750, 90000, 92250, 94500, 96750, 99000, 101250,
+        103500, 105750, 108000, 110250
+    };
+    private static final long SSS_MAX_CONTRIBUTION = 112500;
+
+    private PayrollCalculator() {
+    }
+
+    /**
+     * Calculates a payslip from an employee's rates and worked minutes.
+     *
+     * @param hourlyRate Hourly rate in centavos.
+     * @param basicSalary Monthly basic salary in centavos.
+     * @param allowances Total monthly allowances in centavos.
+     * @param regularMinutes Regular minutes worked in the month.
+     * @param overtimeMinutes Overtime minutes worked in the month.
+     * @param payslip Payslip to fill.
+     * @return The filled payslip.
+     */
+    public static Payslip calculate(long hourlyRate, long basicSalary, long allowances,
+                                    long regularMinutes, long overtimeMinutes, Payslip payslip) {
+        payslip.basePay = Money.multiply(hourlyRate, regularMinutes, 60);
+        payslip.overtimePay = Money.multiply(hourlyRate, overtimeMinutes * OVERTIME_RATE_PERCENT, 60 * 100);
+        payslip.grossPay = payslip.basePay + payslip.overtimePay;
+        payslip.allowances = allowances;
+        payslip.sss = sssContribution(payslip.grossPay);
+        payslip.philHealth = philHealthContribution(basicSalary);
+        payslip.pagIbig = pagIbigContribution(payslip.grossPay);
+        long taxableIncome = payslip.grossPay - (payslip.sss + payslip.philHealth + payslip.pagIbig);
+        payslip.withholdingTax = withholdingTax(taxableIncome);
+        return payslip;
+    }
+
+    /**
+     * Calculates a payslip using the statutory rate tables in effect for the pay period.
+     *
+     * @param hourlyRate Hourly rate in centavos.
+     * @param basicSalary Monthly basic salary in centavos.
+     * @param allowances Total monthly allowances in centavos.
+     * @param regularMinutes Regular minutes worked in the month.
+     * @param overtimeMinutes Overtime minutes worked in the month.
+     * @param rates Statutory rate tables for the pay period.
+     * @param payslip Payslip to fill.
+     * @return The filled payslip.
+     */
+    public static Payslip calculate(long hourlyRate, long basicSalary, long allowances,
+                                    long regularMinutes, long overtimeMinutes, StatutoryRates rates, Payslip payslip) {
+        payslip.basePay = Money.multiply(hourlyRate, regularMinutes, 60);
+        payslip.overtimePay = Money.multiply(hourlyRate, overtimeMinutes * OVERTIME_RATE_PERCENT, 60 * 100);
+        payslip.grossPay = payslip.basePay + payslip.overtimePay;
+        payslip.allowances = allowances;
+        payslip.sss = rates.getSss().applyCentavos(payslip.grossPay);
+        payslip.philHealth = rates.getPhilHealth().applyCentavos(basicSalary);
+        payslip.pagIbig = rates.getPagIbig().applyCentavos(payslip.grossPay);
+        long taxableIncome = payslip.grossPay - (payslip.sss + payslip.philHealth + payslip.pagIbig);
+        payslip.withholdingTax = rates.getWithholdingTax().applyCentavos(taxableIncome);
+        return payslip;
+    }
+
+    /**
+     * Calculates SSS contribution based on salary.
+     *
+     * @param monthlyGrossSalary Monthly gross salary in centavos.
+     * @return SSS contribution in centavos.
+     */
+    public static long sssContribution(long monthlyGrossSalary) {
+        if (monthlyGrossSalary < SSS_FIRST_LIMIT) {
+            return SSS_CONTRIBUTIONS[0];
+        }
+        long bracket = (monthlyGrossSalary - SSS_FIRST_LIMIT) / SSS_BRACKET_WIDTH + 1;
+        return bracket < SSS_CONTRIBUTIONS.length ? SSS_CONTRIBUTIONS[(int) bracket] : SSS_MAX_CONTRIBUTION;
+    }
+
+    /**
+     * Calculates PhilHealth contribution based on basic salary.
+     *
+     * @param basicSalary Basic salary in centavos.
+     * @return PhilHealth employee share in centavos.
+     */
+    public static long philHealthContribution(long basicSalary) {
+        if (basicSalary <= 1000000) return 15000;
+        else if (basicSalary >= 6000000) return 90000;
+        else return Money.multiply(basicSalary, 3, 200);
+    }
+
+    /**
+     * Calculates Pag-IBIG contribution based on salary.
+     *
+     * @param monthlyGrossSalary Monthly gross salary in centavos.
+     * @return Pag-IBIG contribution in centavos.
+     */
+    public static long pagIbigContribution(long monthlyGrossSalary) {
+        long contribution = Money.multiply(monthlyGrossSalary, monthlyGrossSalary <= 150000 ? 1 : 2, 100);
+        return Math.min(contribution, 10000);
+    }
+
+    /**
+     * Calculates withholding tax based on taxable income, using the same brackets as {@link Deductions}.
+     *
+     * @param taxableIncome Taxable income in centavos.
+     * @return Withholding tax in centavos.
+     */
+    public static long withholdingTax(long taxableIncome) {
+        if (taxableIncome <= 2083200) return 0;
+        else if (taxableIncome < 3333300) return Money.multiply(taxableIncome - 2083300, 20, 100);
+        else if (taxableIncome < 6666700) return 250000 + Money.multiply(taxableIncome - 3333300, 25, 100);
+        else if (taxableIncome < 16666700) return 1083300 + Money.multiply(taxableIncome - 6666700, 30, 100);
+        else if (taxableIncome < 66666700) return 4083333 + Money.multiply(taxableIncome - 16666700, 32, 100);
+        else return 20083333 + Money.multiply(taxableIncome - 66666700, 35, 100);
+    }
+}
@@ -7,7 +7,6 @@ package com.group11.cp2.motorphapp;
 import javax.swing.*;
 import java.awt.*;
 import java.time.YearMonth;
-import java.util.List;
 
 /**
  * JForm-generated PayrollFrame to display employee details and payroll computation.
@@ -15,15 +14,15 @@ import java.util.List;
 public class PayrollFrame extends javax.swing.JFrame {
     private final Dashboard dashboard; // Nullable to allow standalone use
     private Employee employee; // Non-final to allow dynamic updates
-    private final List<AttendanceRecord> attendance;
+    private final AttendanceStore attendance; // Null to use the application's store once loaded
 
     /**
      * Creates new form PayrollFrame with employee details and payroll computation.
      * @param dashboard Optional Dashboard instance for navigation (can be null)
      * @param employee Initial employee (can be null)
-     * @param attendance List of attendance records
+     * @param attendance Attendance store, or null to use the application's store once it has loaded
      */
-    public PayrollFrame(Dashboard dashboard, Employee employee, List<AttendanceRecord> attendance) {
+    public PayrollFrame(Dashboard dashboard, Employee employee, AttendanceStore attendance) {
         this.dashboard = dashboard; // Allow null
         this.employee = employee;
         this.attendance = attendance;
@@ -808,7 +807,19 @@ public class PayrollFrame extends javax.swing.JFrame {
         pack();
     }// </editor-fold>//GEN-END:initComponents
 
+    /**
+     * Gets the attendance store passed in, or the application's store.
+     *
+     * @return Attendance store.
+     */
+    private AttendanceStore getAttendance() {
+        return attendance != null ? attendance : MotorPHApp.getAttendance();
+    }
+
     private void jButton7ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_jButton7ActionPerformed
+        if (attendance == null && !StartupLoader.whenReady(this, evt.getSource(), MotorPHApp.getAttendanceReady(), () -> jButton7ActionPerformed(evt))) {
+            return;
+        }
         if (employee == null) {
             clearPayrollSummary();
             JOptionPane.showMessageDialog(this, "Error: No employee selected. Please enter a valid employee number.", "Error", JOptionPane.ERROR_MESSAGE);
@@ -825,7 +836,10 @@ public class PayrollFrame extends javax.swing.JFrame {
             int year = Integer.parseInt(choice1.getSelectedItem());
             int month = choice2.getSelectedIndex() + 1;
             YearMonth yearMonth = YearMonth.of(year, month);
-            PayrollReport report = new PayrollReport(employee, yearMonth, attendance);
+            PayrollCache cache = MotorPHApp.getPayrollCache();
+            PayrollReport report = cache.getAttendance() == getAttendance()
+                    ? cache.get(employee, yearMonth)
+                    : new PayrollReport(employee, yearMonth, getAttendance());
             // Check for empty attendance records
             if (report.getMonthlyRegularHours() == 0.0 && report.getMonthlyOvertimeHours() == 0.0) {
                 clearPayrollSummary();
@@ -858,7 +872,7 @@ public class PayrollFrame extends javax.swing.JFrame {
             jLabel55.setText(String.format("%.2f", report.getNetSalary()));
             System.out.println("Setting jLabel55 (Net Salary): " + jLabel55.getText());
             System.out.println("jButton7ActionPerformed: Payroll summary updated for employee #" + employee.getEmployeeNumber() + " in " + yearMonth);
-            System.out.println("Attendance records passed: " + (attendance != null ? attendance.size() : "null"));
+            System.out.println("Attendance records passed: " + getAttendance().size());
             // Force UI repaint
             jPanel4.revalidate();
             jPanel4.repaint();
@@ -884,6 +898,9 @@ public class PayrollFrame extends javax.swing.JFrame {
     }//GEN-LAST:event_jButton8ActionPerformed
 
     private void jTextField1ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_jTextField1ActionPerformed
+        if (!StartupLoader.whenReady(this, evt.getSource(), MotorPHApp.getEmployeesReady(), () -> jTextField1ActionPerformed(evt))) {
+            return;
+        }
          String empNumberText = jTextField1.getText().trim();
         System.out.println("jTextField1ActionPerformed: Entered employee number: " + empNumberText);
         if (empNumberText.isEmpty()) {
@@ -894,7 +911,7 @@ public class PayrollFrame extends javax.swing.JFrame {
         try {
             int empNumber = Integer.parseInt(empNumberText);
             System.out.println("jTextField1ActionPerformed: Parsed employee number: " + empNumber);
-            List<Employee> employees = MotorPHApp.getEmployees();
+            EmployeeRepository employees = MotorPHApp.getEmployees();
             System.out.println("jTextField1ActionPerformed: Total employees available: " + (employees != null ? employees.size() : "null"));
             if (employees == null || employees.isEmpty()) {
                 JOptionPane.showMessageDialog(this, "No employees available.", "Error", JOptionPane.ERROR_MESSAGE);
@@ -904,10 +921,7 @@ public class PayrollFrame extends javax.swing.JFrame {
                 updateEmployeeDetails();
                 return;
             }
-            employee = employees.stream()
-                    .filter(e -> e.getEmployeeNumber() == empNumber)
-                    .findFirst()
-                    .orElse(null);
+            employee = employees.get(empNumber);
             if (employee == null) {
                 JOptionPane.showMessageDialog(this, "Employee not found.", "Error", JOptionPane.ERROR_MESSAGE);
                 System.out.println("jTextField1ActionPerformed: Error - Employee not found for number: " + empNumber);
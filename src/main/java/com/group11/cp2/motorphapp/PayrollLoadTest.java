@@ -0,0 +1,175 @@
+/**
+ * Load-test client for {@link PayrollServer} in the MotorPH Payroll System.
+ *
+ * Fetches the employee list, then sends a mix of employee lookups and per-employee payroll
+ * reports, each from its own virtual thread with a bounded number in flight, and reports
+ * throughput and latency percentiles.
+ *
+ * Usage: PayrollLoadTest [--option=value ...]
+ *   --url=URL          Server base URL (http://127.0.0.1:8080)
+ *   --requests=N       Requests to send (10000)
+ *   --concurrency=N    Requests in flight at once (1000)
+ *   --month=yyyy-MM    Month of the payroll reports (2024-06)
+ *   --payroll-share=P  Share of requests that ask for a payroll report (0.8)
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class PayrollLoadTest {
+    private static final Pattern EMPLOYEE_NUMBER = Pattern.compile("\"employeeNumber\":(\\d+)");
+
+    /**
+     * Runs the load test.
+     *
+     * @param args Options in the form --name=value; see the class description.
+     */
+    public static void main(String[] args) {
+        String url = "http://127.0.0.1:8080";
+        int requests = 10_000;
+        int concurrency = 1000;
+        YearMonth month = YearMonth.of(2024, 6);
+        double payrollShare = 0.8;
+        try {
+            for (String arg : args) {
+                int equals = arg.indexOf('=');
+                if (!arg.startsWith("--") || equals < 0) {
+                    throw new IllegalArgumentException("Expected --name=value: " + arg);
+                }
+                String value = arg.substring(equals + 1);
+                switch (arg.substring(2, equals)) {
+                    case "url": url = value.endsWith("/") ? value.substring(0, value.length() - 1) : value; break;
+                    case "requests": requests = Integer.parseInt(value); break;
+                    case "concurrency": concurrency = Integer.parseInt(value); break;
+                    case "month": month = YearMonth.parse(value); break;
+                    case "payroll-share": payrollShare = Double.parseDouble(value); break;
+                    default: throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+            if (requests <= 0 || concurrency <= 0) {
+                throw new IllegalArgumentException("Requests and concurrency must be positive");
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .executor(executor)
+                    .build();
+            int[] employeeNumbers = fetchEmployeeNumbers(client, url);
+            if (employeeNumbers.length == 0) {
+                System.err.println("The server has no employees to query");
+                System.exit(1);
+                return;
+            }
+
+            URI[] targets = new URI[requests];
+            SplittableRandom random = new SplittableRandom(11);
+            for (int i = 0; i < requests; i++) {
+                int employeeNumber = employeeNumbers[random.nextInt(employeeNumbers.length)];
+                targets[i] = URI.create(random.nextDouble() < payrollShare
+                        ? url + "/payroll/" + employeeNumber + "/" + month
+                        : url + "/employees/" + employeeNumber);
+            }
+            System.out.printf("Sending %d requests to %s with %d in flight%n", requests, url, concurrency);
+            run(client, executor, targets, concurrency);
+        } catch (IOException e) {
+            System.err.println("Error reaching payroll server: " + e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int[] fetchEmployeeNumbers(HttpClient client, String url) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(url + "/employees")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET /employees returned " + response.statusCode());
+        }
+        Matcher matcher = EMPLOYEE_NUMBER.matcher(response.body());
+        int[] numbers = new int[16];
+        int count = 0;
+        while (matcher.find()) {
+            if (count == numbers.length) {
+                numbers = Arrays.copyOf(numbers, count << 1);
+            }
+            numbers[count++] = Integer.parseInt(matcher.group(1));
+        }
+        return Arrays.copyOf(numbers, count);
+    }
+
+    /**
+     * Sends every request, at most {@code concurrency} at a time, and prints the results.
+     */
+    private static void run(HttpClient client, ExecutorService executor, URI[] targets, int concurrency)
+            throws InterruptedException {
+        long[] latencies = new long[targets.length];
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger errorStatuses = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(concurrency);
+        long started = System.nanoTime();
+        for (int i = 0; i < targets.length; i++) {
+            inFlight.acquire();
+            int request = i;
+            executor.execute(() -> {
+                long sent = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = client.send(HttpRequest.newBuilder(targets[request]).build(),
+                            HttpResponse.BodyHandlers.discarding());
+                    // Reports the server refuses, such as invalid hourly rates, are answers, not failures
+                    if (response.statusCode() >= 500 || response.statusCode() == 404) {
+                        errorStatuses.incrementAndGet();
+                    }
+                } catch (IOException e) {
+                    failed.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failed.incrementAndGet();
+                } finally {
+                    latencies[request] = System.nanoTime() - sent;
+                    inFlight.release();
+                }
+            });
+        }
+        inFlight.acquire(concurrency);
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        System.out.printf("%d requests in %d ms: %.0f requests/s, %d failed, %d error responses%n",
+                targets.length, elapsed / 1_000_000, targets.length / (elapsed / 1e9), failed.get(), errorStatuses.get());
+        System.out.printf("Latency ms: p50 %.2f | p90 %.2f | p99 %.2f | p99.9 %.2f | max %.2f%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                percentile(latencies, 0.999), latencies[latencies.length - 1] / 1e6);
+    }
+
+    /**
+     * Gets a percentile of sorted latencies in milliseconds by the nearest-rank method.
+     */
+    private static double percentile(long[] sorted, double fraction) {
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1e6;
+    }
+}
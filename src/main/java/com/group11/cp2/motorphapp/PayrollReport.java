@@ -20,6 +20,7 @@ public class PayrollReport {
     private double grossSalary;
     private Deductions deductions;
     private double totalAllowances;
+    private final Payslip payslip = new Payslip();
 
     /**
      * Creates a payroll report for the specified employee and month.
@@ -38,19 +39,58 @@ public class PayrollReport {
                         && YearMonth.from(record.getDate()).equals(yearMonth))
                 .collect(Collectors.toList());
 
-        if (monthlyRecords.isEmpty()) {
-            this.monthlyRegularHours = 0.0;
-            this.monthlyOvertimeHours = 0.0;
-        } else {
-            this.monthlyRegularHours = monthlyRecords.stream()
-                    .map(AttendanceRecord::getRegularDuration)
-                    .reduce(Duration.ZERO, Duration::plus)
-                    .toMinutes() / 60.0;
-            this.monthlyOvertimeHours = monthlyRecords.stream()
-                    .map(AttendanceRecord::getOvertimeDuration)
-                    .reduce(Duration.ZERO, Duration::plus)
-                    .toMinutes() / 60.0;
-        }
+        long regularMinutes = monthlyRecords.stream()
+                .map(AttendanceRecord::getRegularDuration)
+                .reduce(Duration.ZERO, Duration::plus)
+                .toMinutes();
+        long overtimeMinutes = monthlyRecords.stream()
+                .map(AttendanceRecord::getOvertimeDuration)
+                .reduce(Duration.ZERO, Duration::plus)
+                .toMinutes();
+        computePay(regularMinutes, overtimeMinutes);
+    }
+
+    /**
+     * Creates a payroll report for the specified employee and month from an attendance store.
+     *
+     * @param employee Employee for the report.
+     * @param yearMonth Year and month for the report.
+     * @param attendance Attendance store.
+     * @throws IllegalArgumentException If hourly rate or hours are invalid.
+     */
+    public PayrollReport(Employee employee, YearMonth yearMonth, AttendanceStore attendance) {
+        this.employee = employee;
+        this.yearMonth = yearMonth;
+
+        AttendanceIndex.Rows monthlyRows = attendance.getIndex().slice(employee.getEmployeeNumber(), yearMonth);
+        computePay(attendance.sumRegularMinutes(monthlyRows), attendance.sumOvertimeMinutes(monthlyRows));
+    }
+
+    /**
+     * Creates a payroll report from minute totals that were already summed.
+     *
+     * @param employee Employee for the report.
+     * @param yearMonth Year and month for the report.
+     * @param regularMinutes Total regular minutes in the month.
+     * @param overtimeMinutes Total overtime minutes in the month.
+     * @throws IllegalArgumentException If hourly rate or hours are invalid.
+     */
+    PayrollReport(Employee employee, YearMonth yearMonth, long regularMinutes, long overtimeMinutes) {
+        this.employee = employee;
+        this.yearMonth = yearMonth;
+        computePay(regularMinutes, overtimeMinutes);
+    }
+
+    /**
+     * Computes salary, allowances and deductions from the month's worked minutes.
+     *
+     * @param regularMinutes Total regular minutes in the month.
+     * @param overtimeMinutes Total overtime minutes in the month.
+     * @throws IllegalArgumentException If hourly rate or hours are invalid.
+     */
+    private void computePay(long regularMinutes, long overtimeMinutes) {
+        this.monthlyRegularHours = regularMinutes / 60.0;
+        this.monthlyOvertimeHours = overtimeMinutes / 60.0;
 
         double hourlyRate = employee.getCompensationDetails().getHourlyRate();
         if (hourlyRate <= 0) {
@@ -65,7 +105,17 @@ public class PayrollReport {
         this.overtimePay = hourlyRate * 1.25 * monthlyOvertimeHours;
         this.grossSalary = baseSalary + overtimePay;
         this.totalAllowances = computeMonthlyAllowances(employee.getCompensationDetails());
-        this.deductions = new Deductions(grossSalary, employee.getCompensationDetails().getBasicSalary());
+        CompensationDetails comp = employee.getCompensationDetails();
+        StatutoryRates rates = RateSchedule.getDefault().forMonth(yearMonth);
+        if (rates != null) {
+            this.deductions = new Deductions(grossSalary, comp.getBasicSalary(), rates);
+            PayrollCalculator.calculate(Money.ofPesos(hourlyRate), Money.ofPesos(comp.getBasicSalary()),
+                    Money.ofPesos(totalAllowances), regularMinutes, overtimeMinutes, rates, payslip);
+        } else {
+            this.deductions = new Deductions(grossSalary, comp.getBasicSalary());
+            PayrollCalculator.calculate(Money.ofPesos(hourlyRate), Money.ofPesos(comp.getBasicSalary()),
+                    Money.ofPesos(totalAllowances), regularMinutes, overtimeMinutes, payslip);
+        }
     }
 
     /**
@@ -106,6 +156,13 @@ public class PayrollReport {
     public Deductions getDeductions() { return deductions; }
     public double getTotalAllowances() { return totalAllowances; }
 
+    /**
+     * Gets the same pay and deductions computed in exact centavos.
+     *
+     * @return Centavo payslip.
+     */
+    public Payslip getPayslip() { return payslip; }
+
     /**
      * Formats duration as hours and minutes.
      *
@@ -0,0 +1,262 @@
+/**
+ * Computes payroll for every employee over a period in the MotorPH Payroll System.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class PayrollRun {
+    private static final int EMPLOYEES_PER_TASK = 16;
+    private static final int MAX_REPORTS = Integer.MAX_VALUE - 8;
+
+    private final EmployeeRepository employees;
+    private final AttendanceTotals attendance;
+    private final PayrollCache cache;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a payroll run over the application's employees and attendance that reuses
+     * the application's cached reports.
+     */
+    public PayrollRun() {
+        this(MotorPHApp.getEmployees(), MotorPHApp.getPayrollCache());
+    }
+
+    /**
+     * Creates a payroll run on the common ForkJoinPool.
+     *
+     * @param employees Employees to pay.
+     * @param attendance Attendance store, or monthly totals streamed from a file.
+     */
+    public PayrollRun(EmployeeRepository employees, AttendanceTotals attendance) {
+        this(employees, attendance, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a payroll run on the given pool.
+     *
+     * @param employees Employees to pay.
+     * @param attendance Attendance store, or monthly totals streamed from a file.
+     * @param pool Pool that computes the reports.
+     */
+    public PayrollRun(EmployeeRepository employees, AttendanceTotals attendance, ForkJoinPool pool) {
+        this(employees, attendance, null, pool);
+    }
+
+    /**
+     * Creates a payroll run on the common ForkJoinPool that only computes reports the cache
+     * does not already hold, and caches the ones it computes.
+     *
+     * @param employees Employees to pay.
+     * @param cache Cache over the attendance store to pay from.
+     */
+    public PayrollRun(EmployeeRepository employees, PayrollCache cache) {
+        this(employees, cache, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a payroll run on the given pool that only computes reports the cache does
+     * not already hold, and caches the ones it computes.
+     *
+     * @param employees Employees to pay.
+     * @param cache Cache over the attendance store to pay from.
+     * @param pool Pool that computes the reports.
+     */
+    public PayrollRun(EmployeeRepository employees, PayrollCache cache, ForkJoinPool pool) {
+        this(employees, cache.getAttendance(), cache, pool);
+    }
+
+    private PayrollRun(EmployeeRepository employees, AttendanceTotals attendance, PayrollCache cache, ForkJoinPool pool) {
+        this.employees = employees;
+        this.attendance = attendance;
+        this.cache = cache;
+        this.pool = pool;
+    }
+
+    /**
+     * Computes payroll reports for every employee in one month.
+     *
+     * @param yearMonth Year and month to pay.
+     * @return Reports, failures and totals of the run.
+     */
+    public Result run(YearMonth yearMonth) {
+        return run(yearMonth, yearMonth);
+    }
+
+    /**
+     * Computes payroll reports for every employee in every month of a range.
+     *
+     * @param from First month to pay.
+     * @param to Last month to pay, inclusive.
+     * @return Reports, failures and totals of the run.
+     * @throws IllegalArgumentException If the range is reversed or has too many reports to hold.
+     */
+    public Result run(YearMonth from, YearMonth to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Invalid payroll period: " + from + " is after " + to);
+        }
+        long started = System.nanoTime();
+        Employee[] snapshot = employees.toList().toArray(new Employee[0]);
+        long reportCount = snapshot.length * (from.until(to, ChronoUnit.MONTHS) + 1);
+        if (reportCount > MAX_REPORTS) {
+            throw new IllegalArgumentException("Payroll period too long: " + from + " to " + to + " would need "
+                    + reportCount + " reports");
+        }
+        int firstMonth = AttendanceIndex.monthIndex(from);
+        int monthCount = AttendanceIndex.monthIndex(to) - firstMonth + 1;
+        PayrollReport[] reports = new PayrollReport[(int) reportCount];
+        String[] errors = new String[reports.length];
+
+        pool.invoke(new RunTask(snapshot, firstMonth, monthCount, reports, errors, 0, snapshot.length));
+
+        List<PayrollReport> completed = new ArrayList<>(reports.length);
+        List<Failure> failures = new ArrayList<>();
+        for (int i = 0; i < reports.length; i++) {
+            if (reports[i] != null) {
+                completed.add(reports[i]);
+            } else {
+                failures.add(new Failure(snapshot[i / monthCount],
+                        AttendanceIndex.toYearMonth(firstMonth + i % monthCount), errors[i]));
+            }
+        }
+        return new Result(from, to, completed, failures, Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    /**
+     * Computes the reports of a range of employees, splitting the range in half
+     * until it is small enough to run directly.
+     */
+    private final class RunTask extends RecursiveAction {
+        private final Employee[] employees;
+        private final int firstMonth;
+        private final int monthCount;
+        private final PayrollReport[] reports;
+        private final String[] errors;
+        private final int from;
+        private final int to;
+
+        RunTask(Employee[] employees, int firstMonth, int monthCount, PayrollReport[] reports, String[] errors, int from, int to) {
+            this.employees = employees;
+            this.firstMonth = firstMonth;
+            this.monthCount = monthCount;
+            this.reports = reports;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > EMPLOYEES_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RunTask(employees, firstMonth, monthCount, reports, errors, from, mid),
+                        new RunTask(employees, firstMonth, monthCount, reports, errors, mid, to));
+                return;
+            }
+            for (int e = from; e < to; e++) {
+                Employee employee = employees[e];
+                int employeeNumber = employee.getEmployeeNumber();
+                for (int m = 0; m < monthCount; m++) {
+                    int slot = e * monthCount + m;
+                    try {
+                        YearMonth yearMonth = AttendanceIndex.toYearMonth(firstMonth + m);
+                        reports[slot] = cache != null ? cache.get(employee, yearMonth)
+                                : new PayrollReport(employee, yearMonth,
+                                        attendance.regularMinutes(employeeNumber, firstMonth + m),
+                                        attendance.overtimeMinutes(employeeNumber, firstMonth + m));
+                    } catch (RuntimeException ex) {
+                        errors[slot] = ex.getMessage();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A report that could not be computed.
+     */
+    public static final class Failure {
+        private final Employee employee;
+        private final YearMonth yearMonth;
+        private final String message;
+
+        Failure(Employee employee, YearMonth yearMonth, String message) {
+            this.employee = employee;
+            this.yearMonth = yearMonth;
+            this.message = message;
+        }
+
+        public Employee getEmployee() { return employee; }
+        public YearMonth getYearMonth() { return yearMonth; }
+        public String getMessage() { return message; }
+
+        @Override
+        public String toString() {
+            return "Employee #" + employee.getEmployeeNumber() + " (" + yearMonth + "): " + message;
+        }
+    }
+
+    /**
+     * Reports, failures and totals of a payroll run.
+     */
+    public static final class Result {
+        private final YearMonth from;
+        private final YearMonth to;
+        private final List<PayrollReport> reports;
+        private final List<Failure> failures;
+        private final Duration elapsed;
+        private long totalGross;
+        private long totalDeductions;
+        private long totalAllowances;
+        private long totalNet;
+
+        Result(YearMonth from, YearMonth to, List<PayrollReport> reports, List<Failure> failures, Duration elapsed) {
+            this.from = from;
+            this.to = to;
+            this.reports = Collections.unmodifiableList(reports);
+            this.failures = Collections.unmodifiableList(failures);
+            this.elapsed = elapsed;
+            for (PayrollReport report : reports) {
+                Payslip payslip = report.getPayslip();
+                totalGross += payslip.getGrossPay();
+                totalDeductions += payslip.getTotalDeductions();
+                totalAllowances += payslip.getAllowances();
+                totalNet += payslip.getNetPay();
+            }
+        }
+
+        public YearMonth getFrom() { return from; }
+        public YearMonth getTo() { return to; }
+        /** Reports ordered by employee, then month. */
+        public List<PayrollReport> getReports() { return reports; }
+        public List<Failure> getFailures() { return failures; }
+        public Duration getElapsed() { return elapsed; }
+        /** Totals are exact sums of the reports' centavo payslips. */
+        public long getTotalGross() { return totalGross; }
+        public long getTotalDeductions() { return totalDeductions; }
+        public long getTotalAllowances() { return totalAllowances; }
+        public long getTotalNet() { return totalNet; }
+
+        /**
+         * Returns a one-line summary of the run.
+         *
+         * @return Formatted run summary.
+         */
+        @Override
+        public String toString() {
+            return String.format("Payroll %s to %s: %d reports, %d failures, gross PHP %s, deductions PHP %s, "
+                            + "allowances PHP %s, net PHP %s in %d ms",
+                    from, to, reports.size(), failures.size(), Money.format(totalGross), Money.format(totalDeductions),
+                    Money.format(totalAllowances), Money.format(totalNet), elapsed.toMillis());
+        }
+    }
+}
@@ -0,0 +1,440 @@
+/**
+ * Embedded HTTP service that answers payroll queries with JSON for the MotorPH Payroll System.
+ *
+ * Requests are served from the in-memory employee repository and payroll cache, each on
+ * its own virtual thread, so thousands of concurrent requests only cost a small stack
+ * each. Endpoints, all GET:
+ *   /employees                        Every employee's number and name
+ *   /employees/{number}               One employee with compensation
+ *   /payroll/{number}/{yyyy-MM}       One employee's payroll report for a month
+ *   /payroll/{yyyy-MM}[?to=yyyy-MM]   Company-wide payroll run for a month or range of up
+ *                                     to --max-months months
+ *
+ * Usage: PayrollServer [--option=value ...]
+ *   --employees=FILE   Employee CSV file (src/main/resources/employeedata.csv)
+ *   --attendance=FILE  Attendance CSV file (src/main/resources/attendancerecord.csv)
+ *   --host=ADDRESS     Address to listen on (127.0.0.1)
+ *   --port=N           Port to listen on (8080)
+ *   --max-months=N     Longest company-wide range, in months (12)
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class PayrollServer {
+    private static final int BACKLOG = 4096;
+    private static final int DEFAULT_MAX_MONTHS = 12;
+    private static final int MAX_RESPONSE_CAPACITY = 1 << 26;
+
+    private final EmployeeRepository employees;
+    private final PayrollCache cache;
+    private final int maxMonths;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Creates a server over in-memory stores. The stores must not be changed while it runs.
+     *
+     * @param employees Employees to serve.
+     * @param cache Payroll cache over the attendance store to serve.
+     */
+    public PayrollServer(EmployeeRepository employees, PayrollCache cache) {
+        this(employees, cache, DEFAULT_MAX_MONTHS);
+    }
+
+    /**
+     * Creates a server over in-memory stores. The stores must not be changed while it runs.
+     *
+     * @param employees Employees to serve.
+     * @param cache Payroll cache over the attendance store to serve.
+     * @param maxMonths Longest company-wide payroll range, in months.
+     */
+    public PayrollServer(EmployeeRepository employees, PayrollCache cache, int maxMonths) {
+        if (maxMonths < 1) {
+            throw new IllegalArgumentException("Invalid maximum months: " + maxMonths);
+        }
+        this.employees = employees;
+        this.cache = cache;
+        this.maxMonths = maxMonths;
+    }
+
+    /**
+     * Starts listening, handling each request on a new virtual thread.
+     *
+     * @param address Address and port to listen on; port 0 picks a free port.
+     * @return Address the server listens on.
+     * @throws IOException If the address cannot be bound.
+     */
+    public synchronized InetSocketAddress start(InetSocketAddress address) throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("Payroll server is already running");
+        }
+        HttpServer created = HttpServer.create(address, BACKLOG);
+        created.createContext("/employees", exchange -> serve(exchange, this::handleEmployees));
+        created.createContext("/payroll", exchange -> serve(exchange, this::handlePayroll));
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        created.setExecutor(executor);
+        created.start();
+        server = created;
+        return created.getAddress();
+    }
+
+    /**
+     * Stops listening, giving requests in progress up to a second to finish.
+     */
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(1);
+            executor.close();
+            server = null;
+            executor = null;
+        }
+    }
+
+    /**
+     * Runs a handler, answering 500 if it fails before sending a response, and closes the exchange.
+     */
+    private static void serve(HttpExchange exchange, HttpHandler handler) throws IOException {
+        try (exchange) {
+            handler.handle(exchange);
+        } catch (RuntimeException | Error e) {
+            System.err.println("Error serving " + exchange.getRequestURI() + ": " + e);
+            if (exchange.getResponseCode() == -1) {
+                sendError(exchange, 500, "Internal error");
+            }
+        }
+    }
+
+    private void handleEmployees(HttpExchange exchange) throws IOException {
+        String[] path = segments(exchange);
+        if (!isGet(exchange) || !matches(exchange, path, "employees")) {
+            return;
+        }
+        StringBuilder json = new StringBuilder(256);
+        if (path.length == 1) {
+            json.append('[');
+            for (Employee employee : employees) {
+                if (json.length() > 1) {
+                    json.append(',');
+                }
+                json.append("{\"employeeNumber\":").append(employee.getEmployeeNumber());
+                appendField(json, "lastName", employee.getLastName());
+                appendField(json, "firstName", employee.getFirstName());
+                json.append('}');
+            }
+            send(exchange, 200, json.append(']'));
+        } else if (path.length == 2) {
+            Employee employee = findEmployee(exchange, path[1]);
+            if (employee != null) {
+                appendEmployee(json, employee);
+                send(exchange, 200, json);
+            }
+        } else {
+            sendError(exchange, 404, "Not found: " + exchange.getRequestURI().getPath());
+        }
+    }
+
+    private void handlePayroll(HttpExchange exchange) throws IOException {
+        String[] path = segments(exchange);
+        if (!isGet(exchange) || !matches(exchange, path, "payroll")) {
+            return;
+        }
+        if (path.length == 3) {
+            Employee employee = findEmployee(exchange, path[1]);
+            YearMonth month = employee != null ? parseMonth(exchange, path[2]) : null;
+            if (month == null) {
+                return;
+            }
+            try {
+                StringBuilder json = new StringBuilder(512);
+                appendReport(json, cache.get(employee, month));
+                send(exchange, 200, json);
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 422, e.getMessage());
+            }
+        } else if (path.length == 2) {
+            YearMonth from = parseMonth(exchange, path[1]);
+            String toParameter = queryParameter(exchange.getRequestURI(), "to");
+            YearMonth to = from == null ? null : toParameter == null ? from : parseMonth(exchange, toParameter);
+            if (to == null) {
+                return;
+            }
+            long months = from.until(to, ChronoUnit.MONTHS) + 1;
+            if (months > maxMonths) {
+                sendError(exchange, 400, "Payroll period too long: " + months + " months (at most " + maxMonths + ")");
+                return;
+            }
+            try {
+                PayrollRun.Result result = new PayrollRun(employees, cache).run(from, to);
+                int capacity = (int) Math.min(MAX_RESPONSE_CAPACITY, 256L + result.getReports().size() * 320L);
+                send(exchange, 200, appendRun(new StringBuilder(capacity), result));
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage());
+            }
+        } else {
+            sendError(exchange, 404, "Not found: " + exchange.getRequestURI().getPath());
+        }
+    }
+
+    private static String[] segments(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        int start = 0;
+        int end = path.length();
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(start, end).split("/");
+    }
+
+    /**
+     * Checks the first path segment, since a context also receives paths that merely start with its name.
+     */
+    private static boolean matches(HttpExchange exchange, String[] path, String context) throws IOException {
+        if (path[0].equals(context)) {
+            return true;
+        }
+        sendError(exchange, 404, "Not found: " + exchange.getRequestURI().getPath());
+        return false;
+    }
+
+    private static boolean isGet(HttpExchange exchange) throws IOException {
+        if (exchange.getRequestMethod().equals("GET")) {
+            return true;
+        }
+        exchange.getResponseHeaders().set("Allow", "GET");
+        sendError(exchange, 405, "Method not allowed: " + exchange.getRequestMethod());
+        return false;
+    }
+
+    private Employee findEmployee(HttpExchange exchange, String number) throws IOException {
+        Employee employee = null;
+        try {
+            employee = employees.get(Integer.parseInt(number));
+        } catch (NumberFormatException e) {
+            sendError(exchange, 400, "Invalid employee number: " + number);
+            return null;
+        }
+        if (employee == null) {
+            sendError(exchange, 404, "Employee not found: " + number);
+        }
+        return employee;
+    }
+
+    private static YearMonth parseMonth(HttpExchange exchange, String text) throws IOException {
+        try {
+            return YearMonth.parse(text);
+        } catch (DateTimeException e) {
+            sendError(exchange, 400, "Invalid month (expected yyyy-MM): " + text);
+            return null;
+        }
+    }
+
+    private static String queryParameter(URI uri, String name) {
+        String query = uri.getQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0 && pair.substring(0, equals).equals(name)) {
+                return pair.substring(equals + 1);
+            }
+        }
+        return null;
+    }
+
+    private static void send(HttpExchange exchange, int status, CharSequence json) throws IOException {
+        byte[] body = json.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder json = new StringBuilder(64).append("{\"status\":").append(status);
+        appendField(json, "error", message);
+        send(exchange, status, json.append('}'));
+    }
+
+    private static void appendEmployee(StringBuilder json, Employee employee) {
+        json.append("{\"employeeNumber\":").append(employee.getEmployeeNumber());
+        appendField(json, "lastName", employee.getLastName());
+        appendField(json, "firstName", employee.getFirstName());
+        appendField(json, "birthday", employee.getBirthday() != null ? employee.getBirthday().toString() : null);
+        appendField(json, "position", employee.getPosition());
+        appendField(json, "status", employee.getStatus());
+        CompensationDetails comp = employee.getCompensationDetails();
+        if (comp != null) {
+            json.append(",\"compensation\":{\"basicSalary\":");
+            Money.appendPesos(json, comp.getBasicSalary()).append(",\"riceSubsidy\":");
+            Money.appendPesos(json, comp.getRiceSubsidy()).append(",\"phoneAllowance\":");
+            Money.appendPesos(json, comp.getPhoneAllowance()).append(",\"clothingAllowance\":");
+            Money.appendPesos(json, comp.getClothingAllowance()).append(",\"semiMonthlyRate\":");
+            Money.appendPesos(json, comp.getGrossSemiMonthlyRate()).append(",\"hourlyRate\":");
+            Money.appendPesos(json, comp.getHourlyRate()).append('}');
+        }
+        json.append('}');
+    }
+
+    /**
+     * Appends a report with its centavo-exact payslip amounts in pesos.
+     */
+    private static void appendReport(StringBuilder json, PayrollReport report) {
+        Employee employee = report.getEmployee();
+        Payslip payslip = report.getPayslip();
+        json.append("{\"employeeNumber\":").append(employee.getEmployeeNumber());
+        appendField(json, "lastName", employee.getLastName());
+        appendField(json, "firstName", employee.getFirstName());
+        appendField(json, "month", report.getYearMonth().toString());
+        json.append(",\"regularMinutes\":").append(Math.round(report.getMonthlyRegularHours() * 60))
+                .append(",\"overtimeMinutes\":").append(Math.round(report.getMonthlyOvertimeHours() * 60));
+        appendAmount(json, "basePay", payslip.getBasePay());
+        appendAmount(json, "overtimePay", payslip.getOvertimePay());
+        appendAmount(json, "grossPay", payslip.getGrossPay());
+        appendAmount(json, "sss", payslip.getSss());
+        appendAmount(json, "philHealth", payslip.getPhilHealth());
+        appendAmount(json, "pagIbig", payslip.getPagIbig());
+        appendAmount(json, "withholdingTax", payslip.getWithholdingTax());
+        appendAmount(json, "allowances", payslip.getAllowances());
+        appendAmount(json, "totalDeductions", payslip.getTotalDeductions());
+        appendAmount(json, "netPay", payslip.getNetPay());
+        json.append('}');
+    }
+
+    private static StringBuilder appendRun(StringBuilder json, PayrollRun.Result result) {
+        json.append('{');
+        appendField(json, "from", result.getFrom().toString());
+        appendField(json, "to", result.getTo().toString());
+        appendAmount(json, "totalGross", result.getTotalGross());
+        appendAmount(json, "totalDeductions", result.getTotalDeductions());
+        appendAmount(json, "totalAllowances", result.getTotalAllowances());
+        appendAmount(json, "totalNet", result.getTotalNet());
+        json.append(",\"elapsedMillis\":").append(result.getElapsed().toMillis()).append(",\"reports\":[");
+        boolean first = true;
+        for (PayrollReport report : result.getReports()) {
+            if (!first) {
+                json.append(',');
+            }
+            appendReport(json, report);
+            first = false;
+        }
+        json.append("],\"failures\":[");
+        first = true;
+        for (PayrollRun.Failure failure : result.getFailures()) {
+            if (!first) {
+                json.append(',');
+            }
+            json.append("{\"employeeNumber\":").append(failure.getEmployee().getEmployeeNumber());
+            appendField(json, "month", failure.getYearMonth().toString());
+            appendField(json, "error", failure.getMessage());
+            json.append('}');
+            first = false;
+        }
+        return json.append("]}");
+    }
+
+    private static void appendAmount(StringBuilder json, String name, long centavos) {
+        Money.appendTo(json.append(",\"").append(name).append("\":"), centavos);
+    }
+
+    /**
+     * Appends ,"name":"value" with the value escaped, or null.
+     */
+    private static void appendField(StringBuilder json, String name, String value) {
+        if (json.charAt(json.length() - 1) != '{') {
+            json.append(',');
+        }
+        json.append('"').append(name).append("\":");
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': json.append("\\\""); break;
+                case '\\': json.append("\\\\"); break;
+                case '\n': json.append("\\n"); break;
+                case '\r': json.append("\\r"); break;
+                case '\t': json.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * Loads the data files and serves them until the process is stopped.
+     *
+     * @param args Options in the form --name=value; see the class description.
+     */
+    public static void main(String[] args) {
+        String employeePath = "src/main/resources/employeedata.csv";
+        String attendancePath = "src/main/resources/attendancerecord.csv";
+        String host = "127.0.0.1";
+        int port = 8080;
+        int maxMonths = DEFAULT_MAX_MONTHS;
+        try {
+            for (String arg : args) {
+                int equals = arg.indexOf('=');
+                if (!arg.startsWith("--") || equals < 0) {
+                    throw new IllegalArgumentException("Expected --name=value: " + arg);
+                }
+                String value = arg.substring(equals + 1);
+                switch (arg.substring(2, equals)) {
+                    case "employees": employeePath = value; break;
+                    case "attendance": attendancePath = value; break;
+                    case "host": host = value; break;
+                    case "port": port = Integer.parseInt(value); break;
+                    case "max-months": maxMonths = Integer.parseInt(value); break;
+                    default: throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+            if (maxMonths < 1) {
+                throw new IllegalArgumentException("Invalid maximum months: " + maxMonths);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        EmployeeRepository employees = PayrollBatch.loadEmployees(employeePath);
+        AttendanceStore attendance = PayrollBatch.loadAttendance(attendancePath);
+        PayrollServer server = new PayrollServer(employees, new PayrollCache(attendance), maxMonths);
+        try {
+            InetSocketAddress address = server.start(new InetSocketAddress(host, port));
+            Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "motorph-server-stop"));
+            System.out.println("Serving " + employees.size() + " employees and " + attendance.size()
+                    + " attendance records on http://" + address.getHostString() + ":" + address.getPort());
+        } catch (IOException e) {
+            System.err.println("Error starting payroll server: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * Holds the centavo amounts of one payroll calculation in the MotorPH Payroll System.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+public class Payslip {
+    long basePay;
+    long overtimePay;
+    long grossPay;
+    long sss;
+    long philHealth;
+    long pagIbig;
+    long withholdingTax;
+    long allowances;
+
+    /**
+     * Creates an empty payslip to be filled by {@link PayrollCalculator}.
+     */
+    public Payslip() {
+    }
+
+    public long getBasePay() { return basePay; }
+    public long getOvertimePay() { return overtimePay; }
+    public long getGrossPay() { return grossPay; }
+    public long getSss() { return sss; }
+    public long getPhilHealth() { return philHealth; }
+    public long getPagIbig() { return pagIbig; }
+    public long getWithholdingTax() { return withholdingTax; }
+    public long getAllowances() { return allowances; }
+
+    /**
+     * Calculates total deductions.
+     *
+     * @return Sum of SSS, PhilHealth, Pag-IBIG, and withholding tax in centavos.
+     */
+    public long getTotalDeductions() {
+        return sss + philHealth + pagIbig + withholdingTax;
+    }
+
+    /**
+     * Calculates net pay after deductions and adding allowances.
+     *
+     * @return Net pay in centavos.
+     */
+    public long getNetPay() {
+        return grossPay - getTotalDeductions() + allowances;
+    }
+}
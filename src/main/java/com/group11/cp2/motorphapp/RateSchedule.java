@@ -0,0 +1,172 @@
+/**
+ * Loads effective-dated statutory rate tables for the MotorPH Payroll System.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class RateSchedule {
+    /** Default location of the statutory rate file. */
+    public static final String DEFAULT_PATH = "src/main/resources/statutoryrates.csv";
+
+    private static final String[] TABLES = {"SSS", "PHILHEALTH", "PAGIBIG", "TAX"};
+
+    private final int[] effectiveMonths;
+    private final StatutoryRates[] rates;
+
+    private RateSchedule(List<StatutoryRates> schedules) {
+        effectiveMonths = new int[schedules.size()];
+        rates = schedules.toArray(new StatutoryRates[0]);
+        for (int i = 0; i < rates.length; i++) {
+            effectiveMonths[i] = AttendanceIndex.monthIndex(rates[i].getEffectiveFrom());
+        }
+    }
+
+    private static final class DefaultHolder {
+        static final RateSchedule INSTANCE = load(DEFAULT_PATH);
+    }
+
+    /**
+     * Gets the schedule loaded from {@link #DEFAULT_PATH}, reading it on first use.
+     *
+     * @return Default rate schedule.
+     */
+    public static RateSchedule getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Gets the tables in effect for a payroll month. Months before the earliest
+     * schedule use the earliest schedule.
+     *
+     * @param yearMonth Payroll month.
+     * @return Statutory rates, or null if no schedule was loaded.
+     */
+    public StatutoryRates forMonth(YearMonth yearMonth) {
+        if (rates.length == 0) {
+            return null;
+        }
+        int month = AttendanceIndex.monthIndex(yearMonth);
+        int lo = 0;
+        int hi = rates.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (effectiveMonths[mid] <= month) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return rates[lo];
+    }
+
+    /**
+     * Gets every schedule in order of effective month.
+     *
+     * @return Statutory rates.
+     */
+    public List<StatutoryRates> getSchedules() {
+        return List.of(rates);
+    }
+
+    /**
+     * Reads statutory rate tables from a CSV file with the columns
+     * EffectiveFrom,Table,UpperBound,Inclusive,Base,Rate,Offset,Cap.
+     * An empty UpperBound or Cap means unbounded.
+     *
+     * @param filePath Path to the CSV file.
+     * @return Rate schedule; empty if the file cannot be read.
+     */
+    public static RateSchedule load(String filePath) {
+        Map<YearMonth, Map<String, List<RateTable.Bracket>>> brackets = new TreeMap<>();
+        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = br.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 || line.isBlank()) {
+                    continue;
+                }
+                String[] values = line.split(",", -1);
+                if (values.length != 8) {
+                    System.err.println("Invalid rate row (expected 8 columns, found " + values.length + "): " + line);
+                    continue;
+                }
+                String table = values[1].trim().toUpperCase();
+                if (!List.of(TABLES).contains(table)) {
+                    System.err.println("Unknown rate table in line: " + line);
+                    continue;
+                }
+                try {
+                    YearMonth effectiveFrom = YearMonth.parse(values[0].trim());
+                    brackets.computeIfAbsent(effectiveFrom, k -> new LinkedHashMap<>())
+                            .computeIfAbsent(table, k -> new ArrayList<>())
+                            .add(parseBracket(values));
+                } catch (DateTimeParseException e) {
+                    System.err.println("Invalid effective month in rate line: " + line);
+                } catch (NumberFormatException | ArithmeticException e) {
+                    System.err.println("Invalid number format in rate line: " + line);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading statutory rates CSV: " + e.getMessage());
+        }
+
+        List<StatutoryRates> schedules = new ArrayList<>();
+        for (Map.Entry<YearMonth, Map<String, List<RateTable.Bracket>>> entry : brackets.entrySet()) {
+            Map<String, List<RateTable.Bracket>> tables = entry.getValue();
+            try {
+                RateTable[] built = new RateTable[TABLES.length];
+                for (int i = 0; i < TABLES.length; i++) {
+                    List<RateTable.Bracket> table = tables.get(TABLES[i]);
+                    if (table == null) {
+                        throw new IllegalArgumentException("missing " + TABLES[i] + " table");
+                    }
+                    built[i] = RateTable.of(table);
+                }
+                schedules.add(new StatutoryRates(entry.getKey(), built[0], built[1], built[2], built[3]));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Invalid statutory rates effective " + entry.getKey() + ": " + e.getMessage());
+            }
+        }
+        return new RateSchedule(schedules);
+    }
+
+    private static RateTable.Bracket parseBracket(String[] values) {
+        String upper = values[2].trim();
+        String cap = values[7].trim();
+        BigDecimal upperBound = upper.isEmpty() ? null : new BigDecimal(upper);
+        BigDecimal base = new BigDecimal(values[4].trim());
+        BigDecimal rate = new BigDecimal(values[5].trim());
+        BigDecimal offset = new BigDecimal(values[6].trim());
+        BigDecimal capValue = cap.isEmpty() ? null : new BigDecimal(cap);
+        return new RateTable.Bracket(
+                upperBound == null ? Double.POSITIVE_INFINITY : upperBound.doubleValue(),
+                Boolean.parseBoolean(values[3].trim()),
+                base.doubleValue(),
+                rate.doubleValue(),
+                offset.doubleValue(),
+                capValue == null ? Double.POSITIVE_INFINITY : capValue.doubleValue(),
+                upperBound == null ? Long.MAX_VALUE : centavos(upperBound),
+                centavos(base),
+                rate.movePointRight(6).longValueExact(),
+                centavos(offset),
+                capValue == null ? Long.MAX_VALUE : centavos(capValue));
+    }
+
+    private static long centavos(BigDecimal pesos) {
+        return pesos.movePointRight(2).longValueExact();
+    }
+}
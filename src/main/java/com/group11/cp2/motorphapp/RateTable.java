@@ -0,0 +1,163 @@
+/**
+ * A bracketed contribution or tax table for the MotorPH Payroll System.
+ *
+ * Each bracket covers amounts up to its upper bound and yields
+ * {@code min(cap, base + (amount - offset) * rate)}.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public final class RateTable {
+    /** Rates used by the centavo path are stored as parts per million. */
+    static final long RATE_SCALE = 1_000_000;
+
+    private final double[] upperBounds;
+    private final boolean[] inclusive;
+    private final double[] bases;
+    private final double[] rates;
+    private final double[] offsets;
+    private final double[] caps;
+
+    private final long[] upperBoundCentavos;
+    private final long[] baseCentavos;
+    private final long[] ratePpm;
+    private final long[] offsetCentavos;
+    private final long[] capCentavos;
+
+    private RateTable(List<Bracket> brackets) {
+        int n = brackets.size();
+        upperBounds = new double[n];
+        inclusive = new boolean[n];
+        bases = new double[n];
+        rates = new double[n];
+        offsets = new double[n];
+        caps = new double[n];
+        upperBoundCentavos = new long[n];
+        baseCentavos = new long[n];
+        ratePpm = new long[n];
+        offsetCentavos = new long[n];
+        capCentavos = new long[n];
+        for (int i = 0; i < n; i++) {
+            Bracket b = brackets.get(i);
+            upperBounds[i] = b.upperBound;
+            inclusive[i] = b.inclusive;
+            bases[i] = b.base;
+            rates[i] = b.rate;
+            offsets[i] = b.offset;
+            caps[i] = b.cap;
+            upperBoundCentavos[i] = b.upperBoundCentavos;
+            baseCentavos[i] = b.baseCentavos;
+            ratePpm[i] = b.ratePpm;
+            offsetCentavos[i] = b.offsetCentavos;
+            capCentavos[i] = b.capCentavos;
+        }
+    }
+
+    /**
+     * Computes the table's value for an amount in pesos.
+     *
+     * @param amount Salary or income in pesos.
+     * @return Contribution or tax in pesos.
+     */
+    public double apply(double amount) {
+        int lo = 0;
+        int hi = upperBounds.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (amount < upperBounds[mid] || (inclusive[mid] && amount == upperBounds[mid])) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        if (rates[lo] == 0) {
+            return Math.min(caps[lo], bases[lo]);
+        }
+        return Math.min(caps[lo], bases[lo] + (amount - offsets[lo]) * rates[lo]);
+    }
+
+    /**
+     * Computes the table's value for an amount in centavos, rounding half to even.
+     *
+     * @param amount Salary or income in centavos.
+     * @return Contribution or tax in centavos.
+     */
+    public long applyCentavos(long amount) {
+        int lo = 0;
+        int hi = upperBoundCentavos.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (amount < upperBoundCentavos[mid] || (inclusive[mid] && amount == upperBoundCentavos[mid])) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        if (ratePpm[lo] == 0) {
+            return Math.min(capCentavos[lo], baseCentavos[lo]);
+        }
+        return Math.min(capCentavos[lo], baseCentavos[lo] + Money.multiply(amount - offsetCentavos[lo], ratePpm[lo], RATE_SCALE));
+    }
+
+    /**
+     * Gets the number of brackets.
+     *
+     * @return Number of brackets.
+     */
+    public int size() { return upperBounds.length; }
+
+    /**
+     * One bracket as read from the rate file. Amounts are kept both as pesos
+     * and as exact centavos so neither calculation path converts per call.
+     */
+    static final class Bracket {
+        final double upperBound;
+        final boolean inclusive;
+        final double base;
+        final double rate;
+        final double offset;
+        final double cap;
+        final long upperBoundCentavos;
+        final long baseCentavos;
+        final long ratePpm;
+        final long offsetCentavos;
+        final long capCentavos;
+
+        Bracket(double upperBound, boolean inclusive, double base, double rate, double offset, double cap,
+                long upperBoundCentavos, long baseCentavos, long ratePpm, long offsetCentavos, long capCentavos) {
+            this.upperBound = upperBound;
+            this.inclusive = inclusive;
+            this.base = base;
+            this.rate = rate;
+            this.offset = offset;
+            this.cap = cap;
+            this.upperBoundCentavos = upperBoundCentavos;
+            this.baseCentavos = baseCentavos;
+            this.ratePpm = ratePpm;
+            this.offsetCentavos = offsetCentavos;
+            this.capCentavos = capCentavos;
+        }
+    }
+
+    /**
+     * Builds a table from its brackets.
+     *
+     * @param brackets Brackets in any order.
+     * @return Table sorted by upper bound.
+     * @throws IllegalArgumentException If the table is empty or its last bracket has an upper bound.
+     */
+    static RateTable of(List<Bracket> brackets) {
+        List<Bracket> sorted = new ArrayList<>(brackets);
+        sorted.sort(Comparator.comparingDouble((Bracket b) -> b.upperBound)
+                .thenComparing(b -> b.inclusive));
+        if (sorted.isEmpty() || sorted.get(sorted.size() - 1).upperBound != Double.POSITIVE_INFINITY) {
+            throw new IllegalArgumentException("last bracket must have no upper bound");
+        }
+        return new RateTable(sorted);
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Command-line tool that exports attendance summaries to text files for the MotorPH
+ * Payroll System.
+ *
+ * The attendance file is streamed into monthly totals and each report is written block by
+ * block, so memory grows with the number of employee-months rather than with the size of
+ * the attendance file or the reports. Each file is replaced atomically. If the attendance
+ * journal holds changes not yet compacted into the CSV, the attendance is loaded and the
+ * changes replayed first, so the reports agree with PayrollBatch and PayrollServer.
+ *
+ * Usage: ReportExport [--option=value ...]
+ *   --attendance=FILE  Attendance CSV file (src/main/resources/attendancerecord.csv)
+ *   --employees=FILE   Employee CSV file (src/main/resources/employeedata.csv)
+ *   --out=DIR          Output directory (target/reports)
+ *   --reports=LIST     Comma-separated reports to export: monthly, hours, pay (all three)
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class ReportExport {
+    private static final String MONTHLY = "monthly";
+    private static final String HOURS = "hours";
+    private static final String PAY = "pay";
+
+    /**
+     * Runs the export.
+     *
+     * @param args Options in the form --name=value; see the class description.
+     */
+    public static void main(String[] args) {
+        String attendancePath = "src/main/resources/attendancerecord.csv";
+        String employeePath = "src/main/resources/employeedata.csv";
+        Path out = Path.of("target/reports");
+        Set<String> reports = new LinkedHashSet<>(List.of(MONTHLY, HOURS, PAY));
+        try {
+            for (String arg : args) {
+                int equals = arg.indexOf('=');
+                if (!arg.startsWith("--") || equals < 0) {
+                    throw new IllegalArgumentException("Expected --name=value: " + arg);
+                }
+                String value = arg.substring(equals + 1);
+                switch (arg.substring(2, equals)) {
+                    case "attendance": attendancePath = value; break;
+                    case "employees": employeePath = value; break;
+                    case "out": out = Path.of(value); break;
+                    case "reports": reports = parseReports(value); break;
+                    default: throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            MonthlyMinutes minutes = scanAttendance(attendancePath);
+            EmployeeRepository employees = reports.contains(HOURS) || reports.contains(PAY)
+                    ? EmployeeRepository.of(CSVHandler.readEmployeesFromCSV(employeePath)) : null;
+            Files.createDirectories(out);
+            for (String report : reports) {
+                Path target = out.resolve(report + "-summary.txt");
+                switch (report) {
+                    case MONTHLY:
+                        AtomicFileWriter.write(target, writer -> AttendanceRecord.writeMonthlySummary(minutes, writer));
+                        break;
+                    case HOURS:
+                        AtomicFileWriter.write(target, writer -> AttendanceRecord.writeMonthlySalarySummary(minutes, employees, writer));
+                        break;
+                    default:
+                        AtomicFileWriter.write(target, writer -> AttendanceRecord.writePaySummary(minutes, employees, writer));
+                        break;
+                }
+                System.out.println("Wrote " + target + " (" + Files.size(target) + " bytes)");
+            }
+            System.out.printf("Exported %d reports covering %d employee-months in %d ms%n",
+                    reports.size(), minutes.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            System.err.println("Error exporting reports: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Sums the attendance CSV into monthly totals, replaying journaled changes if there are any.
+     */
+    private static MonthlyMinutes scanAttendance(String attendancePath) throws IOException {
+        try (AttendanceJournal journal = new AttendanceJournal(attendancePath)) {
+            if (!journal.hasPendingChanges()) {
+                return MonthlyMinutes.scan(attendancePath);
+            }
+        }
+        AttendanceStore attendance = PayrollBatch.loadAttendance(attendancePath);
+        MonthlyMinutes minutes = new MonthlyMinutes();
+        for (int row = attendance.nextRow(0); row >= 0; row = attendance.nextRow(row + 1)) {
+            minutes.row(attendance.getEmployeeNumber(row), attendance.getEpochDay(row),
+                    attendance.getMinuteIn(row), attendance.getMinuteOut(row));
+        }
+        return minutes;
+    }
+
+    private static Set<String> parseReports(String value) {
+        Set<String> reports = new LinkedHashSet<>();
+        for (String report : value.split(",")) {
+            String name = report.trim().toLowerCase();
+            if (!name.equals(MONTHLY) && !name.equals(HOURS) && !name.equals(PAY)) {
+                throw new IllegalArgumentException("Unknown report (expected monthly, hours or pay): " + report);
+            }
+            reports.add(name);
+        }
+        return reports;
+    }
+}
@@ -7,7 +7,6 @@ package com.group11.cp2.motorphapp;
 
 import javax.swing.*;
 import java.awt.event.ActionEvent;
-import java.util.List;
 
 /**
  * SelectionMenu form for MotorPH Payroll System to navigate to employee views.
@@ -191,8 +190,8 @@ public class SelectionMenu extends javax.swing.JFrame {
     private void jButton8ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_jButton8ActionPerformed
         System.out.println("SelectionMenu: View Specific Employee button clicked");
         try {
-            List<AttendanceRecord> attendance = MotorPHApp.getAttendance();
-            PayrollFrame payrollFrame = new PayrollFrame(null, null, attendance);
+            // PayrollFrame waits for the attendance store itself when it computes payroll
+            PayrollFrame payrollFrame = new PayrollFrame(null, null, null);
             payrollFrame.setVisible(true);
             System.out.println("SelectionMenu: PayrollFrame opened with no employee selected");
         } catch (Exception ex) {
@@ -216,6 +215,9 @@ public class SelectionMenu extends javax.swing.JFrame {
 
     private void jButton9ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_jButton9ActionPerformed
         System.out.println("SelectionMenu: View All Employees button clicked");
+        if (!StartupLoader.whenReady(this, evt.getSource(), MotorPHApp.getDataReady(), () -> jButton9ActionPerformed(evt))) {
+            return;
+        }
         try {
             new Dashboard(MotorPHApp.getUsers(), MotorPHApp.getEmployees(), MotorPHApp.getAttendance());
             System.out.println("SelectionMenu: Dashboard opened");
@@ -0,0 +1,152 @@
+/**
+ * Loads application data on background threads and reports progress for the MotorPH Payroll System.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+
+public class StartupLoader extends SwingWorker<Void, String> {
+    private static final Map<Component, Set<Object>> PENDING = new HashMap<>();
+
+    private final ExecutorService executor;
+    private final List<CompletableFuture<String>> tasks = new ArrayList<>();
+    private final BlockingQueue<String> finished = new LinkedBlockingQueue<>();
+    private JDialog dialog;
+    private JLabel statusLabel;
+
+    /**
+     * Creates a loader that runs its tasks on the given number of daemon threads.
+     *
+     * @param threads Number of loader threads.
+     */
+    public StartupLoader(int threads) {
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "motorph-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts a loading task right away. All tasks must be submitted before {@link #execute()}.
+     *
+     * @param task Task that loads data and returns a status message.
+     * @return Future completed when the task has finished.
+     */
+    public CompletableFuture<Void> submit(Supplier<String> task) {
+        CompletableFuture<String> future = CompletableFuture.supplyAsync(task, executor);
+        future.whenComplete((message, error) ->
+                finished.add(error == null ? message : "Loading failed: " + error.getMessage()));
+        tasks.add(future);
+        return future.thenApply(message -> null);
+    }
+
+    /**
+     * Shows a small progress window next to the given frame until loading finishes.
+     *
+     * @param owner Frame the progress window belongs to.
+     */
+    public void showProgress(Frame owner) {
+        if (isDone()) {
+            return;
+        }
+        JProgressBar progressBar = new JProgressBar(0, 100);
+        progressBar.setStringPainted(true);
+        statusLabel = new JLabel("Loading employee and attendance data...");
+        addPropertyChangeListener(e -> {
+            if ("progress".equals(e.getPropertyName())) {
+                progressBar.setValue((Integer) e.getNewValue());
+            }
+        });
+
+        dialog = new JDialog(owner, "MotorPH - Loading", false);
+        dialog.setDefaultCloseOperation(WindowConstants.DO_NOTHING_ON_CLOSE);
+        JPanel panel = new JPanel(new BorderLayout(0, 6));
+        panel.setBorder(BorderFactory.createEmptyBorder(10, 12, 10, 12));
+        panel.add(statusLabel, BorderLayout.NORTH);
+        panel.add(progressBar, BorderLayout.CENTER);
+        dialog.setContentPane(panel);
+        dialog.pack();
+        dialog.setSize(Math.max(dialog.getWidth(), 320), dialog.getHeight());
+        dialog.setLocation(owner.getX(), owner.getY() + owner.getHeight());
+        dialog.setVisible(true);
+    }
+
+    /**
+     * Waits for each task in completion order and publishes its status message.
+     */
+    @Override
+    protected Void doInBackground() throws InterruptedException {
+        for (int i = 0; i < tasks.size(); i++) {
+            String message = finished.take();
+            publish(message);
+            setProgress((i + 1) * 100 / tasks.size());
+        }
+        return null;
+    }
+
+    @Override
+    protected void process(List<String> messages) {
+        for (String message : messages) {
+            System.out.println(message);
+            if (statusLabel != null) {
+                statusLabel.setText(message);
+            }
+        }
+    }
+
+    @Override
+    protected void done() {
+        executor.shutdown();
+        if (dialog != null) {
+            dialog.dispose();
+        }
+    }
+
+    /**
+     * Runs an action once data is ready without blocking the event dispatch thread. While a
+     * retry is pending, further calls for the same component and trigger are ignored, so
+     * repeated clicks during loading run the action only once. Call on the event dispatch thread.
+     * Use as {@code if (!StartupLoader.whenReady(this, evt.getSource(), future, () -> retry())) return;}.
+     *
+     * @param parent Component that shows a wait cursor meanwhile.
+     * @param trigger Control or other key identifying the action, such as the clicked button.
+     * @param future Readiness future of the data the action needs.
+     * @param action Action to run on the event dispatch thread once the future completes.
+     * @return true if the data is ready now and the caller should carry on.
+     */
+    public static boolean whenReady(Component parent, Object trigger, CompletableFuture<?> future, Runnable action) {
+        if (future.isDone()) {
+            return true;
+        }
+        Set<Object> triggers = PENDING.computeIfAbsent(parent, key -> new HashSet<>());
+        if (!triggers.add(trigger)) {
+            return false;
+        }
+        parent.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        future.whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+            triggers.remove(trigger);
+            if (triggers.isEmpty()) {
+                PENDING.remove(parent);
+                parent.setCursor(Cursor.getDefaultCursor());
+            }
+            action.run();
+        }));
+        return false;
+    }
+}
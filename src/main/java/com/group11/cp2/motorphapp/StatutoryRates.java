@@ -0,0 +1,41 @@
+/**
+ * The SSS, PhilHealth, Pag-IBIG and withholding tax tables in effect from a given month
+ * in the MotorPH Payroll System.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.time.YearMonth;
+
+public final class StatutoryRates {
+    private final YearMonth effectiveFrom;
+    private final RateTable sss;
+    private final RateTable philHealth;
+    private final RateTable pagIbig;
+    private final RateTable withholdingTax;
+
+    /**
+     * Creates a set of statutory rate tables.
+     *
+     * @param effectiveFrom First month the tables apply to.
+     * @param sss SSS contribution by monthly gross salary.
+     * @param philHealth PhilHealth employee share by basic salary.
+     * @param pagIbig Pag-IBIG contribution by monthly gross salary.
+     * @param withholdingTax Withholding tax by taxable income.
+     */
+    public StatutoryRates(YearMonth effectiveFrom, RateTable sss, RateTable philHealth,
+                          RateTable pagIbig, RateTable withholdingTax) {
+        this.effectiveFrom = effectiveFrom;
+        this.sss = sss;
+        this.philHealth = philHealth;
+        this.pagIbig = pagIbig;
+        this.withholdingTax = withholdingTax;
+    }
+
+    public YearMonth getEffectiveFrom() { return effectiveFrom; }
+    public RateTable getSss() { return sss; }
+    public RateTable getPhilHealth() { return philHealth; }
+    public RateTable getPagIbig() { return pagIbig; }
+    public RateTable getWithholdingTax() { return withholdingTax; }
+}
@@ -0,0 +1,283 @@
+/**
+ * Renders attendance summaries in parallel for the MotorPH Payroll System.
+ *
+ * The monthly totals are collected first, which is cheap, then split into chunks at
+ * employee boundaries. Each chunk is formatted on the common ForkJoinPool into a pooled,
+ * pre-sized buffer, and the buffers are joined in employee order, so the text is the same
+ * as rendering serially. Small summaries are rendered serially.
+ *
+ * Summaries can also be written to a Writer as the totals are visited, which holds one
+ * buffer of text at a time instead of the whole report.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+final class SummaryRenderer {
+    private static final int PARALLEL_THRESHOLD = 512;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int MAX_POOLED_CAPACITY = 1 << 20;
+    private static final int FLUSH_THRESHOLD = 1 << 13;
+    private static final ArrayBlockingQueue<StringBuilder> BUFFERS = new ArrayBlockingQueue<>(64);
+
+    /**
+     * Formats the block of one employee and month.
+     */
+    interface BlockWriter {
+        /**
+         * Appends the block of one employee and month.
+         *
+         * @param sb Destination.
+         * @param employeeNumber Employee's unique ID.
+         * @param monthIndex Month as year * 12 + (month - 1).
+         * @param regularMinutes Regular minutes worked in the month.
+         * @param overtimeMinutes Overtime minutes worked in the month.
+         * @param firstOfEmployee Whether this is the employee's first month.
+         */
+        void write(StringBuilder sb, int employeeNumber, int monthIndex, long regularMinutes, long overtimeMinutes,
+                boolean firstOfEmployee);
+    }
+
+    private int[] employeeNumbers = new int[64];
+    private int[] months = new int[64];
+    private long[] regular = new long[64];
+    private long[] overtime = new long[64];
+    private int size;
+
+    private SummaryRenderer() {
+    }
+
+    /**
+     * Renders a summary.
+     *
+     * @param header Text before the first block.
+     * @param source Visits the monthly totals in ascending order of employee, then month.
+     * @param charsPerMonth Expected length of one block, used to size the buffers.
+     * @param writer Formats one block.
+     * @return Summary text.
+     */
+    static String render(String header, Consumer<MonthlyMinutes.Visitor> source, int charsPerMonth, BlockWriter writer) {
+        SummaryRenderer totals = new SummaryRenderer();
+        source.accept(totals::add);
+        return totals.render(header, charsPerMonth, writer);
+    }
+
+    /**
+     * Writes a summary block by block as the totals are visited.
+     *
+     * @param header Text before the first block.
+     * @param source Visits the monthly totals in ascending order of employee, then month.
+     * @param writer Formats one block.
+     * @param out Destination; it is not flushed or closed.
+     * @throws IOException If the destination cannot be written.
+     */
+    static void write(String header, Consumer<MonthlyMinutes.Visitor> source, BlockWriter writer, Writer out)
+            throws IOException {
+        StringBuilder sb = acquire(FLUSH_THRESHOLD * 2);
+        char[][] chars = {new char[FLUSH_THRESHOLD * 2]};
+        long[] previous = {Long.MIN_VALUE};
+        try {
+            sb.append(header);
+            source.accept((empId, month, regular, overtime) -> {
+                writer.write(sb, empId, month, regular, overtime, empId != previous[0]);
+                previous[0] = empId;
+                if (sb.length() >= FLUSH_THRESHOLD) {
+                    chars[0] = drain(sb, chars[0], out);
+                }
+            });
+            drain(sb, chars[0], out);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            release(sb);
+        }
+    }
+
+    /**
+     * Moves the buffered text to the destination through a reusable char array.
+     */
+    private static char[] drain(StringBuilder sb, char[] chars, Writer out) {
+        int length = sb.length();
+        if (chars.length < length) {
+            chars = new char[length];
+        }
+        sb.getChars(0, length, chars, 0);
+        sb.setLength(0);
+        try {
+            out.write(chars, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return chars;
+    }
+
+    private void add(int employeeNumber, int monthIndex, long regularMinutes, long overtimeMinutes) {
+        if (size == months.length) {
+            int capacity = size << 1;
+            employeeNumbers = Arrays.copyOf(employeeNumbers, capacity);
+            months = Arrays.copyOf(months, capacity);
+            regular = Arrays.copyOf(regular, capacity);
+            overtime = Arrays.copyOf(overtime, capacity);
+        }
+        employeeNumbers[size] = employeeNumber;
+        months[size] = monthIndex;
+        regular[size] = regularMinutes;
+        overtime[size] = overtimeMinutes;
+        size++;
+    }
+
+    private String render(String header, int charsPerMonth, BlockWriter writer) {
+        if (size < PARALLEL_THRESHOLD) {
+            StringBuilder sb = new StringBuilder(header.length() + size * charsPerMonth);
+            sb.append(header);
+            write(sb, 0, size, writer);
+            return sb.toString();
+        }
+
+        int[] bounds = split();
+        StringBuilder[] chunks = new StringBuilder[bounds.length - 1];
+        try {
+            ForkJoinPool.commonPool().invoke(new RenderTask(bounds, chunks, charsPerMonth, writer, 0, chunks.length));
+            int length = header.length();
+            for (StringBuilder chunk : chunks) {
+                length += chunk.length();
+            }
+            StringBuilder sb = new StringBuilder(length);
+            sb.append(header);
+            for (StringBuilder chunk : chunks) {
+                sb.append(chunk);
+            }
+            return sb.toString();
+        } finally {
+            for (StringBuilder chunk : chunks) {
+                release(chunk);
+            }
+        }
+    }
+
+    /**
+     * Splits the totals into chunks of about equal size that start at an employee's first month.
+     */
+    private int[] split() {
+        int target = ForkJoinPool.commonPool().getParallelism() * CHUNKS_PER_THREAD;
+        int chunkSize = Math.max(1, size / Math.max(1, target));
+        int[] bounds = new int[target + 2];
+        int count = 1;
+        int next = chunkSize;
+        for (int i = 1; i < size && count < bounds.length - 1; i++) {
+            if (i >= next && employeeNumbers[i] != employeeNumbers[i - 1]) {
+                bounds[count++] = i;
+                next = i + chunkSize;
+            }
+        }
+        bounds[count++] = size;
+        return Arrays.copyOf(bounds, count);
+    }
+
+    private void write(StringBuilder sb, int from, int to, BlockWriter writer) {
+        for (int i = from; i < to; i++) {
+            writer.write(sb, employeeNumbers[i], months[i], regular[i], overtime[i],
+                    i == 0 || employeeNumbers[i] != employeeNumbers[i - 1]);
+        }
+    }
+
+    private static StringBuilder acquire(int capacity) {
+        StringBuilder sb = BUFFERS.poll();
+        if (sb == null) {
+            return new StringBuilder(capacity);
+        }
+        sb.ensureCapacity(capacity);
+        return sb;
+    }
+
+    private static void release(StringBuilder sb) {
+        if (sb != null && sb.capacity() <= MAX_POOLED_CAPACITY) {
+            sb.setLength(0);
+            BUFFERS.offer(sb);
+        }
+    }
+
+    /**
+     * Renders a range of chunks, splitting the range in half until it is a single chunk.
+     */
+    private final class RenderTask extends RecursiveAction {
+        private final int[] bounds;
+        private final StringBuilder[] chunks;
+        private final int charsPerMonth;
+        private final BlockWriter writer;
+        private final int from;
+        private final int to;
+
+        RenderTask(int[] bounds, StringBuilder[] chunks, int charsPerMonth, BlockWriter writer, int from, int to) {
+            this.bounds = bounds;
+            this.chunks = chunks;
+            this.charsPerMonth = charsPerMonth;
+            this.writer = writer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RenderTask(bounds, chunks, charsPerMonth, writer, from, mid),
+                        new RenderTask(bounds, chunks, charsPerMonth, writer, mid, to));
+                return;
+            }
+            if (to > from) {
+                int start = bounds[from];
+                int end = bounds[from + 1];
+                StringBuilder sb = acquire((end - start) * charsPerMonth);
+                chunks[from] = sb;
+                write(sb, start, end, writer);
+            }
+        }
+    }
+
+    /**
+     * Appends minutes formatted like {@code String.format("%02dh %02dm", minutes / 60, minutes % 60)}.
+     *
+     * @param sb Destination.
+     * @param totalMinutes Minutes to format.
+     * @return The destination.
+     */
+    static StringBuilder appendMinutes(StringBuilder sb, long totalMinutes) {
+        if (totalMinutes < 0) {
+            return sb.append(String.format("%02dh %02dm", totalMinutes / 60, totalMinutes % 60));
+        }
+        appendTwoDigits(sb, totalMinutes / 60).append("h ");
+        return appendTwoDigits(sb, totalMinutes % 60).append('m');
+    }
+
+    /**
+     * Appends a month like {@code YearMonth.toString()}.
+     *
+     * @param sb Destination.
+     * @param monthIndex Month as year * 12 + (month - 1).
+     * @return The destination.
+     */
+    static StringBuilder appendMonth(StringBuilder sb, int monthIndex) {
+        int year = Math.floorDiv(monthIndex, 12);
+        if (year < 1000 || year > 9999) {
+            return sb.append(AttendanceIndex.toYearMonth(monthIndex));
+        }
+        return appendTwoDigits(sb.append(year).append('-'), Math.floorMod(monthIndex, 12) + 1);
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder sb, long value) {
+        if (value < 10) {
+            sb.append('0');
+        }
+        return sb.append(value);
+    }
+}
@@ -36,6 +36,10 @@ public class UserLogin extends javax.swing.JFrame {
                 System.err.println("UserLogin: Error - Password is empty");
                 return;
             }
+            // Users load in the background; retry the click once they are available
+            if (!StartupLoader.whenReady(this, jButton1, MotorPHApp.getUsersReady(), jButton1::doClick)) {
+                return;
+            }
             User loggedInUser = User.login(users, username, password);
             if (loggedInUser == null) {
                 JOptionPane.showMessageDialog(this, "Invalid username or password.", "Login Failed", JOptionPane.ERROR_MESSAGE);
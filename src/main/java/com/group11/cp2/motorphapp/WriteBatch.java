@@ -0,0 +1,94 @@
+/**
+ * Groups file replacements so several changes are saved together in the MotorPH Payroll System.
+ *
+ * Staging the same file twice keeps only the latest contents, so a batch forces each
+ * file to disk once no matter how many changes touched it.
+ *
+ * @author Kristopher Carlo, Clarinda, Pil, Janice (Group 11)
+ */
+package com.group11.cp2.motorphapp;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class WriteBatch {
+    private final Map<Path, AtomicFileWriter.Content> staged = new LinkedHashMap<>();
+    private final List<Runnable> afterCommit = new ArrayList<>();
+
+    /**
+     * Stages new contents for a file, replacing anything staged for it earlier.
+     * The contents are produced when the batch is committed.
+     *
+     * @param filePath File to replace.
+     * @param content Writes the new contents.
+     */
+    public void stage(String filePath, AtomicFileWriter.Content content) {
+        staged.put(Path.of(filePath).toAbsolutePath(), content);
+    }
+
+    /**
+     * Adds an action to run once every staged file is in place, such as refreshing a cache of it.
+     *
+     * @param action Action to run after a successful commit.
+     */
+    public void afterCommit(Runnable action) {
+        afterCommit.add(action);
+    }
+
+    /**
+     * Gets the number of files staged.
+     *
+     * @return Number of files.
+     */
+    public int size() { return staged.size(); }
+
+    /**
+     * Checks whether nothing is staged.
+     *
+     * @return true if the batch is empty.
+     */
+    public boolean isEmpty() { return staged.isEmpty(); }
+
+    /**
+     * Writes every staged file to its temp file, then moves them all into place.
+     * If any temp file fails, no file is replaced.
+     *
+     * @throws IOException If a file cannot be written or moved.
+     */
+    public void commit() throws IOException {
+        List<Path> temps = new ArrayList<>(staged.size());
+        try {
+            for (Map.Entry<Path, AtomicFileWriter.Content> entry : staged.entrySet()) {
+                temps.add(AtomicFileWriter.writeTemp(entry.getKey(), entry.getValue()));
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Path temp : temps) {
+                Files.deleteIfExists(temp);
+            }
+            throw e;
+        }
+
+        Set<Path> directories = new LinkedHashSet<>();
+        int i = 0;
+        for (Path target : staged.keySet()) {
+            AtomicFileWriter.moveIntoPlace(temps.get(i++), target);
+            directories.add(target.getParent());
+        }
+        // One directory sync covers every file moved into that directory
+        for (Path directory : directories) {
+            AtomicFileWriter.syncDirectory(directory);
+        }
+        staged.clear();
+        for (Runnable action : afterCommit) {
+            action.run();
+        }
+        afterCommit.clear();
+    }
+}